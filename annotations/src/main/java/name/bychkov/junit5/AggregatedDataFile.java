@@ -0,0 +1,370 @@
+package name.bychkov.junit5;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Data file written by aggregating annotation processor.<br />
+ *
+ * <p>Records are written into shards - one file per package of annotated elements, the data file itself is manifest:
+ * it contains {@link #SHARD_TAG shard record} for each shard with its package, location, count of records and hash.
+ * Readers load only shards of packages they need.
+ *
+ * <p>In shard records are grouped by origin - top-level type (or package) which declares the annotations. Each group is written
+ * as {@link #ORIGIN_TAG origin record} followed by records of the group. Shards and groups are sorted, so the same sources
+ * produce the same files regardless of order of compilation.
+ *
+ * <p>Compilation can contain part of sources only (incremental compilation). Groups of the files of previous compilation are kept,
+ * if their origins are not compiled again and still exist, so records of unchanged sources are not lost.
+ * */
+public class AggregatedDataFile
+{
+	/**
+	 * tag of record with origin of following records, readers of annotation objects skip it as unknown
+	 */
+	public static final int ORIGIN_TAG = 0;
+	/**
+	 * tag of manifest record describing shard
+	 */
+	public static final int SHARD_TAG = 255;
+	
+	private static final String PACKAGE_INFO = ".package-info";
+	/* package names can not contain '-', so the name does not conflict with other shards */
+	private static final String DEFAULT_PACKAGE = "default-package";
+	
+	private final String location;
+	/* package -> origin -> records */
+	private final Map<String, Map<String, Set<Serializable>>> shards = new TreeMap<>();
+	private final Set<String> compiledOrigins = new HashSet<>();
+	private final Map<String, Set<Element>> originatingElements = new HashMap<>();
+	
+	@FunctionalInterface
+	public interface RecordWriter
+	{
+		void write(BinaryDataWriter writer, Serializable item) throws IOException;
+	}
+	
+	@FunctionalInterface
+	public interface RecordReader
+	{
+		/*
+		 * if tag is unknown, returns null
+		 */
+		Serializable read(int tag, BinaryDataReader reader) throws IOException;
+	}
+	
+	/**
+	 * Manifest record of shard.
+	 * */
+	public static class Shard
+	{
+		private final String packageName;
+		private final String location;
+		private final int recordCount;
+		private final int hash;
+		
+		Shard(String packageName, String location, int recordCount, int hash)
+		{
+			this.packageName = packageName;
+			this.location = location;
+			this.recordCount = recordCount;
+			this.hash = hash;
+		}
+		
+		/*
+		 * read fields of shard record, tag of record is already read
+		 */
+		public static Shard read(BinaryDataReader reader) throws IOException
+		{
+			return new Shard(reader.readString(), reader.readString(), reader.readInt(), reader.readInt());
+		}
+		
+		void write(BinaryDataWriter writer) throws IOException
+		{
+			writer.beginRecord(SHARD_TAG);
+			writer.writeString(packageName);
+			writer.writeString(location);
+			writer.writeInt(recordCount);
+			writer.writeInt(hash);
+			writer.endRecord();
+		}
+		
+		public String getPackageName()
+		{
+			return packageName;
+		}
+		
+		/*
+		 * location relative to directory of manifest
+		 */
+		public String getLocation()
+		{
+			return location;
+		}
+		
+		public int getRecordCount()
+		{
+			return recordCount;
+		}
+		
+		/*
+		 * CRC32 of shard file
+		 */
+		public int getHash()
+		{
+			return hash;
+		}
+		
+		public static int hash(ByteBuffer data)
+		{
+			CRC32 crc = new CRC32();
+			crc.update(data.duplicate());
+			return (int) crc.getValue();
+		}
+	}
+	
+	public AggregatedDataFile(String location)
+	{
+		this.location = location;
+	}
+	
+	public String getLocation()
+	{
+		return location;
+	}
+	
+	/*
+	 * register types compiled in current round, their groups in files of previous compilation are outdated
+	 */
+	public void addCompiledElements(Set<? extends Element> rootElements, Elements elements)
+	{
+		for (Element element : rootElements)
+		{
+			compiledOrigins.add(getOrigin(element, elements));
+		}
+	}
+	
+	public void add(Element annotatedElement, Serializable item, Elements elements)
+	{
+		String origin = getOrigin(annotatedElement, elements);
+		String packageName = elements.getPackageOf(annotatedElement).getQualifiedName().toString();
+		compiledOrigins.add(origin);
+		shards.computeIfAbsent(packageName, k -> new TreeMap<>()).computeIfAbsent(origin, k -> new LinkedHashSet<>()).add(item);
+		originatingElements.computeIfAbsent(packageName, k -> new LinkedHashSet<>()).add(annotatedElement);
+	}
+	
+	public boolean isEmpty()
+	{
+		return shards.isEmpty();
+	}
+	
+	/*
+	 * write shards and manifest merged with the files of previous compilation
+	 * manifest is rewritten even without shards, if previous manifest exists, so records of removed annotations are not kept
+	 */
+	public void write(ProcessingEnvironment processingEnv, RecordWriter recordWriter, RecordReader recordReader) throws IOException
+	{
+		boolean previousExists = readPrevious(processingEnv, recordReader);
+		if (shards.isEmpty() && !previousExists)
+		{
+			return;
+		}
+		BinaryDataWriter manifestWriter = new BinaryDataWriter();
+		for (Map.Entry<String, Map<String, Set<Serializable>>> shard : shards.entrySet())
+		{
+			BinaryDataWriter dataWriter = new BinaryDataWriter();
+			int recordCount = 0;
+			for (Map.Entry<String, Set<Serializable>> group : shard.getValue().entrySet())
+			{
+				dataWriter.beginRecord(ORIGIN_TAG);
+				dataWriter.writeString(group.getKey());
+				dataWriter.endRecord();
+				for (Serializable item : group.getValue())
+				{
+					recordWriter.write(dataWriter, item);
+				}
+				recordCount += group.getValue().size();
+			}
+			byte[] data = dataWriter.toByteArray();
+			String packageName = shard.getKey();
+			Shard entry = new Shard(packageName, getShardLocation(packageName), recordCount, Shard.hash(ByteBuffer.wrap(data)));
+			writeResource(processingEnv, resolve(entry.location), data, originatingElements.getOrDefault(packageName, Collections.emptySet()));
+			entry.write(manifestWriter);
+		}
+		Set<Element> allOriginatingElements = new LinkedHashSet<>();
+		originatingElements.values().forEach(allOriginatingElements::addAll);
+		writeResource(processingEnv, location, manifestWriter.toByteArray(), allOriginatingElements);
+	}
+	
+	private static void writeResource(ProcessingEnvironment processingEnv, String location, byte[] data, Set<Element> originatingElements) throws IOException
+	{
+		FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", location,
+				originatingElements.toArray(new Element[0]));
+		try (OutputStream writer = fileObject.openOutputStream())
+		{
+			writer.write(data);
+		}
+	}
+	
+	/*
+	 * shards are stored in directory with name of manifest without extension
+	 */
+	private String getShardLocation(String packageName)
+	{
+		String name = location.substring(location.lastIndexOf('/') + 1);
+		int extension = name.lastIndexOf('.');
+		return (extension > 0 ? name.substring(0, extension) : name) + "/" + (packageName.isEmpty() ? DEFAULT_PACKAGE : packageName) + ".dat";
+	}
+	
+	private String resolve(String shardLocation)
+	{
+		return location.substring(0, location.lastIndexOf('/') + 1) + shardLocation;
+	}
+	
+	/*
+	 * add groups of not compiled existing origins from shards of previous compilation
+	 * records of previous formats (without manifest) are dropped
+	 */
+	private boolean readPrevious(ProcessingEnvironment processingEnv, RecordReader recordReader)
+	{
+		ByteBuffer manifest = readResource(processingEnv, location);
+		if (manifest == null)
+		{
+			return false;
+		}
+		try
+		{
+			BinaryDataReader reader = new BinaryDataReader(manifest);
+			while (reader.hasNextRecord())
+			{
+				if (reader.nextRecord() == SHARD_TAG)
+				{
+					Shard shard = Shard.read(reader);
+					ByteBuffer data = readResource(processingEnv, resolve(shard.location));
+					if (data != null)
+					{
+						readPreviousShard(processingEnv, shard.packageName, data, recordReader);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			/* corrupted file is replaced */
+		}
+		return true;
+	}
+	
+	private void readPreviousShard(ProcessingEnvironment processingEnv, String packageName, ByteBuffer data, RecordReader recordReader)
+	{
+		try
+		{
+			BinaryDataReader reader = new BinaryDataReader(data);
+			Elements elements = processingEnv.getElementUtils();
+			Set<Serializable> group = null;
+			while (reader.hasNextRecord())
+			{
+				int tag = reader.nextRecord();
+				if (tag == ORIGIN_TAG)
+				{
+					String origin = reader.readString();
+					group = origin != null && !compiledOrigins.contains(origin) && exists(origin, elements)
+							? shards.computeIfAbsent(packageName, k -> new TreeMap<>()).computeIfAbsent(origin, k -> new LinkedHashSet<>()) : null;
+				}
+				else if (group != null)
+				{
+					Serializable item = recordReader.read(tag, reader);
+					if (item != null)
+					{
+						group.add(item);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			/* records of corrupted shard are dropped */
+		}
+	}
+	
+	/*
+	 * returns null if resource does not exist
+	 */
+	private static ByteBuffer readResource(ProcessingEnvironment processingEnv, String location)
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", location);
+			if (file.getLastModified() <= 0)
+			{
+				return null;
+			}
+			return ByteBuffer.wrap(readAll(file));
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			return null;
+		}
+	}
+	
+	private static byte[] readAll(FileObject file) throws IOException
+	{
+		try (InputStream input = file.openInputStream())
+		{
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] chunk = new byte[8192];
+			for (int read; (read = input.read(chunk)) != -1;)
+			{
+				output.write(chunk, 0, read);
+			}
+			return output.toByteArray();
+		}
+	}
+	
+	private static boolean exists(String origin, Elements elements)
+	{
+		if (origin.endsWith(PACKAGE_INFO))
+		{
+			return elements.getPackageElement(origin.substring(0, origin.length() - PACKAGE_INFO.length())) != null;
+		}
+		return elements.getTypeElement(origin) != null;
+	}
+	
+	/*
+	 * binary name of top-level type of element or package-info of package
+	 */
+	static String getOrigin(Element element, Elements elements)
+	{
+		if (element.getKind() == ElementKind.PACKAGE)
+		{
+			return ((PackageElement) element).getQualifiedName() + PACKAGE_INFO;
+		}
+		Element type = element;
+		while (type.getEnclosingElement() != null && type.getEnclosingElement().getKind() != ElementKind.PACKAGE)
+		{
+			type = type.getEnclosingElement();
+		}
+		return type instanceof TypeElement ? elements.getBinaryName((TypeElement) type).toString() : type.toString();
+	}
+}
@@ -0,0 +1,316 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of annotation data files written by {@link BinaryDataWriter}.<br />
+ *
+ * <p>Strings of string table are decoded on first access only. Records are read one by one:
+ * {@link #nextRecord()} returns tag of next record, after that fields of record can be read in the same order as they were written.
+ * Fields of record which are not read (for example, fields appended in newer versions of format) are skipped.
+ *
+ * @see BinaryDataWriter
+ * */
+public class BinaryDataReader
+{
+	private final ByteBuffer buffer;
+	private final int version;
+	private final int recordCount;
+	private final int[] stringOffsets;
+	private final String[] strings;
+	private int recordIndex;
+	private int recordEnd = -1;
+	
+	public BinaryDataReader(ByteBuffer buffer) throws IOException
+	{
+		this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		try
+		{
+			if (this.buffer.getInt() != BinaryDataWriter.MAGIC)
+			{
+				throw new IOException("Data has unknown format");
+			}
+			this.version = this.buffer.getInt();
+			if (version < 1 || version > BinaryDataWriter.VERSION)
+			{
+				throw new IOException("Data has unsupported version " + version);
+			}
+			int stringCount = this.buffer.getInt();
+			this.recordCount = this.buffer.getInt();
+			this.stringOffsets = new int[stringCount];
+			this.strings = new String[stringCount];
+			for (int i = 0; i < stringCount; i++)
+			{
+				stringOffsets[i] = this.buffer.position();
+				int length = this.buffer.getInt();
+				this.buffer.position(this.buffer.position() + length);
+			}
+		}
+		catch (BufferUnderflowException | IllegalArgumentException e)
+		{
+			throw new IOException("Data is corrupted", e);
+		}
+	}
+	
+	/*
+	 * check buffer contains data in binary format, position of buffer is not changed
+	 */
+	public static boolean isBinaryData(ByteBuffer buffer)
+	{
+		return buffer.remaining() >= Integer.BYTES
+				&& buffer.duplicate().order(ByteOrder.BIG_ENDIAN).getInt() == BinaryDataWriter.MAGIC;
+	}
+	
+	public int getVersion()
+	{
+		return version;
+	}
+	
+	public int getRecordCount()
+	{
+		return recordCount;
+	}
+	
+	public boolean hasNextRecord()
+	{
+		return recordIndex < recordCount;
+	}
+	
+	/*
+	 * go to next record and get its tag
+	 */
+	public int nextRecord() throws IOException
+	{
+		try
+		{
+			if (recordEnd >= 0)
+			{
+				buffer.position(recordEnd);
+			}
+			if (!hasNextRecord())
+			{
+				throw new IOException("No more records");
+			}
+			int tag = buffer.get() & 0xFF;
+			int length = buffer.getInt();
+			recordEnd = buffer.position() + length;
+			if (length < 0 || recordEnd > buffer.limit())
+			{
+				throw new IOException("Record " + recordIndex + " is corrupted");
+			}
+			recordIndex++;
+			return tag;
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new IOException("Data is corrupted", e);
+		}
+	}
+	
+	/*
+	 * check current record has not read fields
+	 */
+	public boolean hasMoreFields()
+	{
+		return buffer.position() < recordEnd;
+	}
+	
+	public String readString() throws IOException
+	{
+		return getString(readInt());
+	}
+	
+	public String[] readStrings() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		String[] result = new String[length];
+		for (int i = 0; i < length; i++)
+		{
+			result[i] = readString();
+		}
+		return result;
+	}
+	
+	public boolean readBoolean() throws IOException
+	{
+		checkAvailable(1);
+		return buffer.get() != 0;
+	}
+	
+	public int readInt() throws IOException
+	{
+		checkAvailable(Integer.BYTES);
+		return buffer.getInt();
+	}
+	
+	public short[] readShorts() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Short.BYTES);
+		short[] result = new short[length];
+		buffer.asShortBuffer().get(result);
+		buffer.position(buffer.position() + length * Short.BYTES);
+		return result;
+	}
+	
+	public byte[] readBytes() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable(length);
+		byte[] result = new byte[length];
+		buffer.get(result);
+		return result;
+	}
+	
+	public int[] readInts() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Integer.BYTES);
+		int[] result = new int[length];
+		buffer.asIntBuffer().get(result);
+		buffer.position(buffer.position() + length * Integer.BYTES);
+		return result;
+	}
+	
+	public long[] readLongs() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Long.BYTES);
+		long[] result = new long[length];
+		buffer.asLongBuffer().get(result);
+		buffer.position(buffer.position() + length * Long.BYTES);
+		return result;
+	}
+	
+	public float[] readFloats() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Float.BYTES);
+		float[] result = new float[length];
+		buffer.asFloatBuffer().get(result);
+		buffer.position(buffer.position() + length * Float.BYTES);
+		return result;
+	}
+	
+	public double[] readDoubles() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Double.BYTES);
+		double[] result = new double[length];
+		buffer.asDoubleBuffer().get(result);
+		buffer.position(buffer.position() + length * Double.BYTES);
+		return result;
+	}
+	
+	public char[] readChars() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable((long) length * Character.BYTES);
+		char[] result = new char[length];
+		buffer.asCharBuffer().get(result);
+		buffer.position(buffer.position() + length * Character.BYTES);
+		return result;
+	}
+	
+	public boolean[] readBooleans() throws IOException
+	{
+		int length = readLength();
+		if (length == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		checkAvailable(length);
+		boolean[] result = new boolean[length];
+		for (int i = 0; i < length; i++)
+		{
+			result[i] = buffer.get() != 0;
+		}
+		return result;
+	}
+	
+	private int readLength() throws IOException
+	{
+		int length = readInt();
+		if (length < BinaryDataWriter.NULL)
+		{
+			throw new IOException("Record " + (recordIndex - 1) + " is corrupted");
+		}
+		return length;
+	}
+	
+	private void checkAvailable(long bytes) throws IOException
+	{
+		if (recordEnd < 0 || buffer.position() + bytes > recordEnd)
+		{
+			throw new IOException("Record " + (recordIndex - 1) + " is corrupted");
+		}
+	}
+	
+	private String getString(int index) throws IOException
+	{
+		if (index == BinaryDataWriter.NULL)
+		{
+			return null;
+		}
+		if (index < 0 || index >= strings.length)
+		{
+			throw new IOException("String with index " + index + " not exists");
+		}
+		String result = strings[index];
+		if (result == null)
+		{
+			int offset = stringOffsets[index];
+			int length = buffer.getInt(offset);
+			if (buffer.hasArray())
+			{
+				result = new String(buffer.array(), buffer.arrayOffset() + offset + Integer.BYTES, length, StandardCharsets.UTF_8);
+			}
+			else
+			{
+				byte[] bytes = new byte[length];
+				ByteBuffer source = buffer.duplicate();
+				source.position(offset + Integer.BYTES);
+				source.get(bytes);
+				result = new String(bytes, StandardCharsets.UTF_8);
+			}
+			strings[index] = result;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,213 @@
+package name.bychkov.junit5;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writer of annotation data files in compact binary format.<br />
+ *
+ * <p>File layout:
+ * <ul>
+ * <li> header: magic number, format version, count of strings, count of records
+ * <li> string table: each string as length and UTF-8 bytes
+ * <li> records: each record as tag, length of record body and record body
+ * </ul>
+ *
+ * <p>Record body contains fields in fixed order defined by record type. Strings are written as indexes in string table,
+ * arrays as length and elements. Length -1 (or index -1) means null value.
+ *
+ * @see BinaryDataReader
+ * */
+public class BinaryDataWriter
+{
+	public static final int MAGIC = 0x4A355844; // J5XD
+	public static final int VERSION = 1;
+	static final int NULL = -1;
+	
+	private final Map<String, Integer> strings = new LinkedHashMap<>();
+	private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream recordBody = new ByteArrayOutputStream();
+	private final DataOutputStream out = new DataOutputStream(recordBody);
+	private int recordCount;
+	private int recordTag = NULL;
+	
+	public void beginRecord(int tag)
+	{
+		if (recordTag != NULL)
+		{
+			throw new IllegalStateException("Record with tag " + recordTag + " is not ended");
+		}
+		recordTag = tag;
+		recordBody.reset();
+	}
+	
+	public void endRecord() throws IOException
+	{
+		if (recordTag == NULL)
+		{
+			throw new IllegalStateException("Record is not begun");
+		}
+		DataOutputStream recordsOut = new DataOutputStream(records);
+		recordsOut.writeByte(recordTag);
+		recordsOut.writeInt(recordBody.size());
+		recordBody.writeTo(recordsOut);
+		recordsOut.flush();
+		recordCount++;
+		recordTag = NULL;
+	}
+	
+	public int getRecordCount()
+	{
+		return recordCount;
+	}
+	
+	public void writeString(String value) throws IOException
+	{
+		out.writeInt(value == null ? NULL : strings.computeIfAbsent(value, k -> strings.size()));
+	}
+	
+	public void writeStrings(String[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (String value : values)
+			{
+				writeString(value);
+			}
+		}
+	}
+	
+	public void writeBoolean(boolean value) throws IOException
+	{
+		out.writeBoolean(value);
+	}
+	
+	public void writeInt(int value) throws IOException
+	{
+		out.writeInt(value);
+	}
+	
+	public void writeShorts(short[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (short value : values)
+			{
+				out.writeShort(value);
+			}
+		}
+	}
+	
+	public void writeBytes(byte[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			out.write(values);
+		}
+	}
+	
+	public void writeInts(int[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (int value : values)
+			{
+				out.writeInt(value);
+			}
+		}
+	}
+	
+	public void writeLongs(long[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (long value : values)
+			{
+				out.writeLong(value);
+			}
+		}
+	}
+	
+	public void writeFloats(float[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (float value : values)
+			{
+				out.writeFloat(value);
+			}
+		}
+	}
+	
+	public void writeDoubles(double[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (double value : values)
+			{
+				out.writeDouble(value);
+			}
+		}
+	}
+	
+	public void writeChars(char[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (char value : values)
+			{
+				out.writeChar(value);
+			}
+		}
+	}
+	
+	public void writeBooleans(boolean[] values) throws IOException
+	{
+		if (writeLength(values == null ? NULL : values.length))
+		{
+			for (boolean value : values)
+			{
+				out.writeBoolean(value);
+			}
+		}
+	}
+	
+	private boolean writeLength(int length) throws IOException
+	{
+		out.writeInt(length);
+		return length != NULL;
+	}
+	
+	public void writeTo(OutputStream outputStream) throws IOException
+	{
+		if (recordTag != NULL)
+		{
+			throw new IllegalStateException("Record with tag " + recordTag + " is not ended");
+		}
+		DataOutputStream dataOut = new DataOutputStream(outputStream);
+		dataOut.writeInt(MAGIC);
+		dataOut.writeInt(VERSION);
+		dataOut.writeInt(strings.size());
+		dataOut.writeInt(recordCount);
+		for (String value : strings.keySet())
+		{
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			dataOut.writeInt(bytes.length);
+			dataOut.write(bytes);
+		}
+		records.writeTo(dataOut);
+		dataOut.flush();
+	}
+	
+	public byte[] toByteArray() throws IOException
+	{
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		writeTo(outputStream);
+		return outputStream.toByteArray();
+	}
+}
@@ -1,15 +1,9 @@
 package name.bychkov.junit5;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,8 +13,10 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
@@ -28,8 +24,9 @@ import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
-import javax.tools.FileObject;
-import javax.tools.StandardLocation;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
 
 @SupportedAnnotationTypes({
 	"name.bychkov.junit5.CheckConstructor", "name.bychkov.junit5.CheckConstructor.List",
@@ -42,130 +39,133 @@ import javax.tools.StandardLocation;
 	"name.bychkov.junit5.CheckSerializable"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
+@SupportedOptions(CheckAnnotationProcessor.VERIFY_OPTION)
 public class CheckAnnotationProcessor extends AbstractProcessor
 {
 	private static final Logger LOG = Logger.getLogger(CheckAnnotationProcessor.class.getSimpleName());
+	/*
+	 * verify @CheckConstructor, @CheckField, @CheckFields and @CheckMethod in compile-time, values: error, warning
+	 */
+	static final String VERIFY_OPTION = "name.bychkov.junit5.reflections.verify";
 	static final String REFLECTIONS_DATA_FILE_LOCATION = "META-INF/maven/name.bychkov/junit5-extensions/reflections-data.dat";
 	static final String RESOURCE_BUNDLES_DATA_FILE_LOCATION = "META-INF/maven/name.bychkov/junit5-extensions/resource-bundles-data.dat";
 	static final String SERIALIZABLE_DATA_FILE_LOCATION = "META-INF/maven/name.bychkov/junit5-extensions/serializable-data.dat";
 	
+	/* not null if verification in compile-time is enabled */
+	private ReflectionChecksVerifier verifier;
+	private Diagnostic.Kind verificationFailureKind;
+	
+	private final AggregatedDataFile reflectionsDataFile = new AggregatedDataFile(REFLECTIONS_DATA_FILE_LOCATION);
+	private final AggregatedDataFile resourceBundlesDataFile = new AggregatedDataFile(RESOURCE_BUNDLES_DATA_FILE_LOCATION);
+	private final AggregatedDataFile serializableDataFile = new AggregatedDataFile(SERIALIZABLE_DATA_FILE_LOCATION);
+	
 	@Override
-	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	public synchronized void init(ProcessingEnvironment processingEnv)
 	{
-		if (!isAlreadyProcessed(REFLECTIONS_DATA_FILE_LOCATION))
+		super.init(processingEnv);
+		String verifyOption = processingEnv.getOptions().get(VERIFY_OPTION);
+		if ("error".equalsIgnoreCase(verifyOption))
 		{
-			try
-			{
-				Set<Serializable> reflectionsAnnotationItems = new HashSet<>();
-				
-				// CheckConstructor.List and CheckConstructor
-				processCheckAnnotations(roundEnv, CheckConstructor.List.class, CheckConstructor.class, reflectionsAnnotationItems);
-				
-				// CheckMethod.List and CheckMethod
-				processCheckAnnotations(roundEnv, CheckMethod.List.class, CheckMethod.class, reflectionsAnnotationItems);
-				
-				// CheckField.List and CheckField
-				processCheckAnnotations(roundEnv, CheckField.List.class, CheckField.class, reflectionsAnnotationItems);
-				
-				// CheckFields.List and CheckFields
-				processCheckAnnotations(roundEnv, CheckFields.List.class, CheckFields.class, reflectionsAnnotationItems);
-				
-				writeFile(REFLECTIONS_DATA_FILE_LOCATION, reflectionsAnnotationItems);
-			}
-			catch (Exception e)
-			{
-				LOG.log(Level.SEVERE, e, () -> "Error has acquired while reflections annotations processing");
-			}
+			verificationFailureKind = Diagnostic.Kind.ERROR;
 		}
-		
-		if (!isAlreadyProcessed(RESOURCE_BUNDLES_DATA_FILE_LOCATION))
+		else if ("warning".equalsIgnoreCase(verifyOption))
 		{
-			try
-			{
-				Set<Serializable> resourceBundlesAnnotationItems = new HashSet<>();
-				
-				// CheckKey.List and CheckKey
-				processCheckAnnotations(roundEnv, CheckKey.List.class, CheckKey.class, resourceBundlesAnnotationItems);
-				
-				// CheckKeys.List and CheckKeys
-				processCheckAnnotations(roundEnv, CheckKeys.List.class, CheckKeys.class, resourceBundlesAnnotationItems);
-				
-				// CheckResourceBundle.List and CheckResourceBundle
-				processCheckAnnotations(roundEnv, CheckResourceBundle.List.class, CheckResourceBundle.class, resourceBundlesAnnotationItems);
-				
-				writeFile(RESOURCE_BUNDLES_DATA_FILE_LOCATION, resourceBundlesAnnotationItems);
-			}
-			catch (Exception e)
-			{
-				LOG.log(Level.SEVERE, e, () -> "Error has acquired while resource bundles annotations processing");
-			}
+			verificationFailureKind = Diagnostic.Kind.WARNING;
 		}
-		
-		if (!isAlreadyProcessed(SERIALIZABLE_DATA_FILE_LOCATION))
+		else if (verifyOption != null)
 		{
-			try
-			{
-				Set<Serializable> serializableAnnotationItems = new HashSet<>();
-				
-				// CheckSerializable.List and CheckSerializable
-				processCheckAnnotations(roundEnv, CheckSerializable.List.class, CheckSerializable.class, serializableAnnotationItems);
-				
-				writeFile(SERIALIZABLE_DATA_FILE_LOCATION, serializableAnnotationItems);
-			}
-			catch (Exception e)
-			{
-				LOG.log(Level.SEVERE, e, () -> "Error has acquired while serializable annotation processing");
-			}
+			LOG.log(Level.WARNING, () -> "Unknown value '" + verifyOption + "' of option " + VERIFY_OPTION + ", verification in compile-time is disabled");
+		}
+		if (verificationFailureKind != null)
+		{
+			verifier = new ReflectionChecksVerifier(processingEnv);
 		}
-		
-		return true;
 	}
 	
-	private boolean isAlreadyProcessed(String filename)
+	/*
+	 * items are accumulated in all rounds (annotations of sources generated by other processors are processed in later rounds)
+	 * data files are written once in the last round
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
 	{
 		try
 		{
-			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", filename);
-			return file.getLastModified() > 0;
+			// CheckConstructor.List and CheckConstructor
+			processCheckAnnotations(roundEnv, CheckConstructor.List.class, CheckConstructor.class, reflectionsDataFile);
+			
+			// CheckMethod.List and CheckMethod
+			processCheckAnnotations(roundEnv, CheckMethod.List.class, CheckMethod.class, reflectionsDataFile);
+			
+			// CheckField.List and CheckField
+			processCheckAnnotations(roundEnv, CheckField.List.class, CheckField.class, reflectionsDataFile);
+			
+			// CheckFields.List and CheckFields
+			processCheckAnnotations(roundEnv, CheckFields.List.class, CheckFields.class, reflectionsDataFile);
 		}
-		catch (IOException e)
+		catch (Exception e)
 		{
-			return false;
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while reflections annotations processing");
 		}
-	}
-	
-	private void writeFile(String filename, Set<Serializable> annotationItems)
-	{
-		if (annotationItems == null || annotationItems.isEmpty())
+		
+		try
 		{
-			return;
+			// CheckKey.List and CheckKey
+			processCheckAnnotations(roundEnv, CheckKey.List.class, CheckKey.class, resourceBundlesDataFile);
+			
+			// CheckKeys.List and CheckKeys
+			processCheckAnnotations(roundEnv, CheckKeys.List.class, CheckKeys.class, resourceBundlesDataFile);
+			
+			// CheckResourceBundle.List and CheckResourceBundle
+			processCheckAnnotations(roundEnv, CheckResourceBundle.List.class, CheckResourceBundle.class, resourceBundlesDataFile);
 		}
+		catch (Exception e)
+		{
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while resource bundles annotations processing");
+		}
+		
 		try
 		{
-			FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", filename);
-			try (OutputStream writer = fileObject.openOutputStream();
-					ByteArrayOutputStream bos = new ByteArrayOutputStream())
+			// CheckSerializable.List and CheckSerializable
+			processCheckAnnotations(roundEnv, CheckSerializable.List.class, CheckSerializable.class, serializableDataFile);
+		}
+		catch (Exception e)
+		{
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while serializable annotation processing");
+		}
+		
+		for (AggregatedDataFile dataFile : Arrays.asList(reflectionsDataFile, resourceBundlesDataFile, serializableDataFile))
+		{
+			dataFile.addCompiledElements(roundEnv.getRootElements(), processingEnv.getElementUtils());
+			if (roundEnv.processingOver())
 			{
-				ObjectOutputStream out = null;
-				out = new ObjectOutputStream(bos);
-				out.writeObject(annotationItems);
-				out.flush();
-				byte[] bytes = bos.toByteArray();
-				writer.write(bytes);
+				writeFile(dataFile);
 			}
 		}
+		return true;
+	}
+	
+	/*
+	 * file is merged with the file of previous compilation
+	 */
+	private void writeFile(AggregatedDataFile dataFile)
+	{
+		try
+		{
+			dataFile.write(processingEnv, CheckObjectCodec::write, CheckObjectCodec::read);
+		}
 		catch (javax.annotation.processing.FilerException e)
 		{
-			LOG.log(Level.FINER, e, () -> "File " + filename + " already exists. Rewriting file is impossible");
+			LOG.log(Level.FINER, e, () -> "File " + dataFile.getLocation() + " already exists. Rewriting file is impossible");
 		}
 		catch (Exception e)
 		{
-			LOG.log(Level.SEVERE, e, () -> "Error has acquired while File " + filename + " writing");
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while File " + dataFile.getLocation() + " writing");
 		}
 	}
 	
 	private void processCheckAnnotations(RoundEnvironment roundEnv, Class<? extends Annotation> containerAnnotationClass,
-			Class<? extends Annotation> annotationClass, Collection<Serializable> annotationItems)
+			Class<? extends Annotation> annotationClass, AggregatedDataFile dataFile)
 	{
 		Set<? extends Element> containerElements = roundEnv.getElementsAnnotatedWith(containerAnnotationClass);
 		for (Element element : containerElements)
@@ -184,7 +184,7 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 						@SuppressWarnings("unchecked")
 						List<Object> values = (List<Object>) containerAnnotationEntry.getValue().getValue();
 						values.stream().filter(AnnotationMirror.class::isInstance).map(AnnotationMirror.class::cast)
-								.forEach(annotation -> processCheckAnnotation(annotation, element, annotationItems));
+								.forEach(annotation -> processCheckAnnotation(annotation, element, dataFile));
 					}
 				}
 			}
@@ -199,12 +199,12 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 				{
 					continue;
 				}
-				processCheckAnnotation(annotation, element, annotationItems);
+				processCheckAnnotation(annotation, element, dataFile);
 			}
 		}
 	}
 	
-	private void processCheckAnnotation(AnnotationMirror annotation, Element element, Collection<Serializable> annotationItems)
+	private void processCheckAnnotation(AnnotationMirror annotation, Element element, AggregatedDataFile dataFile)
 	{
 		Serializable object = null;
 		if (CheckField.class.getCanonicalName().equals(annotation.getAnnotationType().toString()))
@@ -242,7 +242,18 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 		
 		if (object != null)
 		{
-			annotationItems.add(object);
+			if (verifier != null && verifier.canVerify(object))
+			{
+				String failure = verifier.verify(object);
+				if (failure != null)
+				{
+					processingEnv.getMessager().printMessage(verificationFailureKind, failure, element, annotation);
+				}
+			}
+			else
+			{
+				dataFile.add(element, object, processingEnv.getElementUtils());
+			}
 		}
 	}
 	
@@ -349,9 +360,9 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 			Element element, Map<String, Object> annotationParameters, String attribute)
 	{
 		String constantValue = null;
-		if (element instanceof com.sun.tools.javac.code.Symbol.VarSymbol)
+		if (element instanceof VariableElement)
 		{
-			constantValue = Objects.toString(((com.sun.tools.javac.code.Symbol.VarSymbol) element).getConstValue(), null);
+			constantValue = Objects.toString(((VariableElement) element).getConstantValue(), null);
 		}
 		if (constantValue != null)
 		{
@@ -555,9 +566,9 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 	{
 		Object attributeValue = Optional.ofNullable(annotationParameters.get(attribute))
 				.orElseThrow(() -> new RuntimeException(String.format("Annotation @%s must define the attribute %s", annotationClass.getSimpleName(), attribute)));
-		if (attributeValue instanceof com.sun.tools.javac.code.Type.ClassType)
+		if (attributeValue instanceof DeclaredType)
 		{
-			return getType((com.sun.tools.javac.code.Type.ClassType) attributeValue);
+			return getType((DeclaredType) attributeValue);
 		}
 		else
 		{
@@ -565,9 +576,9 @@ public class CheckAnnotationProcessor extends AbstractProcessor
 		}
 	}
 	
-	private String getType(com.sun.tools.javac.code.Type.ClassType klass)
+	private String getType(DeclaredType klass)
 	{
-		String type = klass.tsym.toString();
+		String type = klass.asElement().toString();
 		TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(type);
 		if (typeElement != null)
 		{
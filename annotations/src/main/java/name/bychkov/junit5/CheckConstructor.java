@@ -4,7 +4,7 @@ import static java.lang.annotation.ElementType.CONSTRUCTOR;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -16,7 +16,7 @@ import java.lang.annotation.Target;
  * 
  * @author Vladimir V. Bychkov
  * */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target({ TYPE, CONSTRUCTOR, FIELD, METHOD })
 @Repeatable(CheckConstructor.List.class)
 @Documented
@@ -38,7 +38,7 @@ public @interface CheckConstructor
 	 * */
 	String message() default "";
 	
-	@Retention(SOURCE)
+	@Retention(CLASS)
 	@Target({ TYPE, CONSTRUCTOR, FIELD, METHOD })
 	@Documented
 	@interface List
@@ -4,7 +4,7 @@ import static java.lang.annotation.ElementType.CONSTRUCTOR;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -40,7 +40,7 @@ import java.lang.annotation.Target;
  * 
  * @author Vladimir V. Bychkov
  * */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target({ TYPE, CONSTRUCTOR, FIELD, METHOD })
 @Repeatable(CheckField.List.class)
 @Documented
@@ -74,7 +74,7 @@ public @interface CheckField
 	 * */
 	String message() default "";
 	
-	@Retention(SOURCE)
+	@Retention(CLASS)
 	@Target({ TYPE, CONSTRUCTOR, FIELD, METHOD })
 	@Documented
 	@interface List
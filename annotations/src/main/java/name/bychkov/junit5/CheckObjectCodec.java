@@ -0,0 +1,208 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckConstructorObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckFieldObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckFieldsObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckKeyObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckKeysObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckMethodObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckResourceBundleObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckSerializableObject;
+
+/*
+ * binary records of objects created by CheckAnnotationProcessor
+ */
+final class CheckObjectCodec
+{
+	static final int CONSTRUCTOR_TAG = 1;
+	static final int FIELD_TAG = 2;
+	static final int FIELDS_TAG = 3;
+	static final int METHOD_TAG = 4;
+	static final int KEY_TAG = 5;
+	static final int KEYS_TAG = 6;
+	static final int RESOURCE_BUNDLE_TAG = 7;
+	static final int SERIALIZABLE_TAG = 8;
+	
+	private CheckObjectCodec()
+	{
+	}
+	
+	static void write(BinaryDataWriter writer, Serializable item) throws IOException
+	{
+		if (item instanceof CheckConstructorObject)
+		{
+			CheckConstructorObject object = (CheckConstructorObject) item;
+			writer.beginRecord(CONSTRUCTOR_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.targetClass);
+			writer.writeStrings(object.parameters);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckFieldObject)
+		{
+			CheckFieldObject object = (CheckFieldObject) item;
+			writer.beginRecord(FIELD_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.targetClass);
+			writer.writeString(object.value);
+			writer.writeString(object.type);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckFieldsObject)
+		{
+			CheckFieldsObject object = (CheckFieldsObject) item;
+			writer.beginRecord(FIELDS_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.targetClass);
+			writer.writeStrings(object.values);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckMethodObject)
+		{
+			CheckMethodObject object = (CheckMethodObject) item;
+			writer.beginRecord(METHOD_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.targetClass);
+			writer.writeString(object.returnType);
+			writer.writeString(object.value);
+			writer.writeStrings(object.parameters);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckKeyObject)
+		{
+			CheckKeyObject object = (CheckKeyObject) item;
+			writer.beginRecord(KEY_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.baseName);
+			writer.writeString(object.value);
+			writer.writeString(object.locale);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckKeysObject)
+		{
+			CheckKeysObject object = (CheckKeysObject) item;
+			writer.beginRecord(KEYS_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.baseName);
+			writer.writeStrings(object.values);
+			writer.writeString(object.locale);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckResourceBundleObject)
+		{
+			CheckResourceBundleObject object = (CheckResourceBundleObject) item;
+			writer.beginRecord(RESOURCE_BUNDLE_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.baseName);
+			writer.writeStrings(object.locales);
+			writer.writeString(object.message);
+		}
+		else if (item instanceof CheckSerializableObject)
+		{
+			CheckSerializableObject object = (CheckSerializableObject) item;
+			writer.beginRecord(SERIALIZABLE_TAG);
+			writer.writeString(object.annotatedElement);
+			writer.writeString(object.targetPackage);
+			writer.writeStrings(object.excludes);
+			writer.writeString(object.message);
+		}
+		else
+		{
+			throw new IllegalArgumentException("Object of type " + item.getClass().getName() + " can not be written");
+		}
+		writer.endRecord();
+	}
+	
+	/*
+	 * read object of record with specified tag
+	 * if tag is unknown, returns null
+	 */
+	static Serializable read(int tag, BinaryDataReader reader) throws IOException
+	{
+		switch (tag)
+		{
+			case CONSTRUCTOR_TAG:
+			{
+				CheckConstructorObject object = new CheckConstructorObject();
+				object.annotatedElement = reader.readString();
+				object.targetClass = reader.readString();
+				object.parameters = reader.readStrings();
+				object.message = reader.readString();
+				return object;
+			}
+			case FIELD_TAG:
+			{
+				CheckFieldObject object = new CheckFieldObject();
+				object.annotatedElement = reader.readString();
+				object.targetClass = reader.readString();
+				object.value = reader.readString();
+				object.type = reader.readString();
+				object.message = reader.readString();
+				return object;
+			}
+			case FIELDS_TAG:
+			{
+				CheckFieldsObject object = new CheckFieldsObject();
+				object.annotatedElement = reader.readString();
+				object.targetClass = reader.readString();
+				object.values = reader.readStrings();
+				object.message = reader.readString();
+				return object;
+			}
+			case METHOD_TAG:
+			{
+				CheckMethodObject object = new CheckMethodObject();
+				object.annotatedElement = reader.readString();
+				object.targetClass = reader.readString();
+				object.returnType = reader.readString();
+				object.value = reader.readString();
+				object.parameters = reader.readStrings();
+				object.message = reader.readString();
+				return object;
+			}
+			case KEY_TAG:
+			{
+				CheckKeyObject object = new CheckKeyObject();
+				object.annotatedElement = reader.readString();
+				object.baseName = reader.readString();
+				object.value = reader.readString();
+				object.locale = reader.readString();
+				object.message = reader.readString();
+				return object;
+			}
+			case KEYS_TAG:
+			{
+				CheckKeysObject object = new CheckKeysObject();
+				object.annotatedElement = reader.readString();
+				object.baseName = reader.readString();
+				object.values = reader.readStrings();
+				object.locale = reader.readString();
+				object.message = reader.readString();
+				return object;
+			}
+			case RESOURCE_BUNDLE_TAG:
+			{
+				CheckResourceBundleObject object = new CheckResourceBundleObject();
+				object.annotatedElement = reader.readString();
+				object.baseName = reader.readString();
+				object.locales = reader.readStrings();
+				object.message = reader.readString();
+				return object;
+			}
+			case SERIALIZABLE_TAG:
+			{
+				CheckSerializableObject object = new CheckSerializableObject();
+				object.annotatedElement = reader.readString();
+				object.targetPackage = reader.readString();
+				object.excludes = reader.readStrings();
+				object.message = reader.readString();
+				return object;
+			}
+			default:
+				return null;
+		}
+	}
+}
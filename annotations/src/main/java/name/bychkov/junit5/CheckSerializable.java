@@ -1,7 +1,7 @@
 package name.bychkov.junit5;
 
 import static java.lang.annotation.ElementType.PACKAGE;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -13,7 +13,7 @@ import java.lang.annotation.Target;
  * 
  * @author Vladimir V. Bychkov
  * */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target({ PACKAGE })
 @Repeatable(CheckSerializable.List.class)
 @Documented
@@ -36,7 +36,7 @@ public @interface CheckSerializable
 	 * */
 	String message() default "";
 	
-	@Retention(SOURCE)
+	@Retention(CLASS)
 	@Target({ PACKAGE })
 	@Documented
 	@interface List
@@ -0,0 +1,291 @@
+package name.bychkov.junit5;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckConstructorObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckFieldObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckFieldsObject;
+import name.bychkov.junit5.CheckAnnotationProcessor.CheckMethodObject;
+
+/*
+ * verification of @CheckConstructor, @CheckField, @CheckFields and @CheckMethod with classes of compilation classpath
+ * members are searched in the same way as ReflectionTests does it in runtime:
+ * fields of superclasses and interfaces hidden by fields with the same name are skipped,
+ * overridden methods, abstract methods of interfaces and members of java.lang.Object are skipped
+ */
+class ReflectionChecksVerifier
+{
+	private static final String OBJECT_CLASS = "java.lang.Object";
+	
+	private final Elements elements;
+	private final Types types;
+	private final Map<TypeElement, Members> members = new HashMap<>();
+	
+	ReflectionChecksVerifier(ProcessingEnvironment processingEnv)
+	{
+		this.elements = processingEnv.getElementUtils();
+		this.types = processingEnv.getTypeUtils();
+	}
+	
+	/*
+	 * check can be verified if its target class is available and its members in runtime are the same as in source code
+	 */
+	boolean canVerify(Serializable item)
+	{
+		if (item instanceof CheckConstructorObject)
+		{
+			TypeElement targetClass = getTypeElement(((CheckConstructorObject) item).targetClass);
+			/* constructors of inner classes and enums have implicit parameters */
+			return targetClass != null && targetClass.getKind() == ElementKind.CLASS
+					&& (targetClass.getNestingKind() == NestingKind.TOP_LEVEL
+					|| targetClass.getNestingKind() == NestingKind.MEMBER && targetClass.getModifiers().contains(Modifier.STATIC));
+		}
+		else if (item instanceof CheckFieldObject)
+		{
+			return getTypeElement(((CheckFieldObject) item).targetClass) != null;
+		}
+		else if (item instanceof CheckFieldsObject)
+		{
+			return getTypeElement(((CheckFieldsObject) item).targetClass) != null;
+		}
+		else if (item instanceof CheckMethodObject)
+		{
+			return getTypeElement(((CheckMethodObject) item).targetClass) != null;
+		}
+		return false;
+	}
+	
+	/*
+	 * returns message of failure or null if check is passed
+	 */
+	String verify(Serializable item)
+	{
+		if (item instanceof CheckConstructorObject)
+		{
+			return verifyConstructor((CheckConstructorObject) item);
+		}
+		else if (item instanceof CheckFieldObject)
+		{
+			return verifyField((CheckFieldObject) item);
+		}
+		else if (item instanceof CheckFieldsObject)
+		{
+			return verifyFields((CheckFieldsObject) item);
+		}
+		else if (item instanceof CheckMethodObject)
+		{
+			return verifyMethod((CheckMethodObject) item);
+		}
+		throw new IllegalArgumentException("Object of type " + item.getClass().getName() + " can not be verified");
+	}
+	
+	private String verifyConstructor(CheckConstructorObject object)
+	{
+		TypeElement targetClass = getTypeElement(object.targetClass);
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(targetClass.getEnclosedElements()))
+		{
+			if (Arrays.equals(object.parameters, getParameterNames(constructor)))
+			{
+				return null;
+			}
+		}
+		return getMessage(object.message, "Annotation @%s on %s warns: Class %s has no accessible constructor %s ",
+				CheckConstructor.class.getSimpleName(), object.annotatedElement, object.targetClass,
+				object.parameters.length == 0 ? "without parameters" : "with parameters " + String.join(", ", object.parameters));
+	}
+	
+	private String verifyField(CheckFieldObject object)
+	{
+		for (VariableElement field : getMembers(getTypeElement(object.targetClass)).fields)
+		{
+			if (Objects.equals(object.value, field.getSimpleName().toString())
+					&& (isBlank(object.type) || Objects.equals(object.type, getCanonicalName(field.asType()))))
+			{
+				return null;
+			}
+		}
+		return getMessage(object.message, "Annotation @%s on %s warns: Class %s has no accessible field %s%s",
+				CheckField.class.getSimpleName(), object.annotatedElement, object.targetClass,
+				object.type == null ? "" : object.type + " ", object.value);
+	}
+	
+	private String verifyFields(CheckFieldsObject object)
+	{
+		Set<String> fieldNames = getMembers(getTypeElement(object.targetClass)).fields.stream()
+				.map(field -> field.getSimpleName().toString()).collect(Collectors.toSet());
+		List<String> failureFields = Arrays.stream(object.values).filter(value -> !fieldNames.contains(value)).collect(Collectors.toList());
+		if (failureFields.isEmpty())
+		{
+			return null;
+		}
+		return getMessage(object.message, "Annotation @%s on %s warns: Class %s has no accessible fields %s",
+				CheckFields.class.getSimpleName(), object.annotatedElement, object.targetClass, String.join(", ", failureFields));
+	}
+	
+	private String verifyMethod(CheckMethodObject object)
+	{
+		for (ExecutableElement method : getMembers(getTypeElement(object.targetClass)).methods)
+		{
+			if (Objects.equals(object.value, method.getSimpleName().toString())
+					&& (isBlank(object.returnType) || Objects.equals(object.returnType, getCanonicalName(method.getReturnType())))
+					&& (object.parameters == null || Arrays.equals(object.parameters, getParameterNames(method))))
+			{
+				return null;
+			}
+		}
+		return getMessage(object.message, "Annotation @%s on %s warns: Class %s has no accessible method %s%s%s",
+				CheckMethod.class.getSimpleName(), object.annotatedElement, object.targetClass,
+				object.returnType == null ? "" : object.returnType + " ",
+				object.value, object.parameters == null ? "" : "(" + String.join(", ", object.parameters) + ")");
+	}
+	
+	private static String getMessage(String message, String format, Object... args)
+	{
+		return isBlank(message) ? String.format(format, args) : message;
+	}
+	
+	private static boolean isBlank(String value)
+	{
+		return value == null || value.trim().isEmpty();
+	}
+	
+	/*
+	 * targetClass is binary name of class
+	 */
+	private TypeElement getTypeElement(String targetClass)
+	{
+		TypeElement result = elements.getTypeElement(targetClass);
+		if (result == null && targetClass.indexOf('$') >= 0)
+		{
+			result = elements.getTypeElement(targetClass.replace('$', '.'));
+		}
+		return result;
+	}
+	
+	private static class Members
+	{
+		final List<VariableElement> fields = new ArrayList<>();
+		final List<ExecutableElement> methods = new ArrayList<>();
+	}
+	
+	private Members getMembers(TypeElement targetClass)
+	{
+		Members result = members.get(targetClass);
+		if (result == null)
+		{
+			result = new Members();
+			Set<String> fieldNames = new HashSet<>();
+			Set<String> methodKeys = new HashSet<>();
+			Deque<TypeElement> interfaces = new ArrayDeque<>();
+			for (TypeElement type = targetClass; type != null && !OBJECT_CLASS.equals(type.getQualifiedName().toString()); type = asTypeElement(type.getSuperclass()))
+			{
+				addMembers(result, type, false, fieldNames, methodKeys);
+				type.getInterfaces().stream().map(this::asTypeElement).filter(Objects::nonNull).forEach(interfaces::add);
+			}
+			Set<TypeElement> visitedInterfaces = new HashSet<>();
+			while (!interfaces.isEmpty())
+			{
+				TypeElement type = interfaces.poll();
+				if (visitedInterfaces.add(type))
+				{
+					addMembers(result, type, true, fieldNames, methodKeys);
+					type.getInterfaces().stream().map(this::asTypeElement).filter(Objects::nonNull).forEach(interfaces::add);
+				}
+			}
+			members.put(targetClass, result);
+		}
+		return result;
+	}
+	
+	private void addMembers(Members result, TypeElement type, boolean isInterface, Set<String> fieldNames, Set<String> methodKeys)
+	{
+		Collection<String> localFieldNames = new ArrayList<>();
+		for (Element element : type.getEnclosedElements())
+		{
+			if ((element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.ENUM_CONSTANT)
+					&& !fieldNames.contains(element.getSimpleName().toString()))
+			{
+				result.fields.add((VariableElement) element);
+				localFieldNames.add(element.getSimpleName().toString());
+			}
+		}
+		fieldNames.addAll(localFieldNames);
+		
+		Collection<String> localMethodKeys = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements()))
+		{
+			if (isInterface && method.getModifiers().contains(Modifier.ABSTRACT))
+			{
+				continue;
+			}
+			String methodKey = method.getSimpleName() + Arrays.toString(getParameterNames(method));
+			if (!methodKeys.contains(methodKey))
+			{
+				result.methods.add(method);
+				localMethodKeys.add(methodKey);
+			}
+		}
+		methodKeys.addAll(localMethodKeys);
+	}
+	
+	private TypeElement asTypeElement(TypeMirror type)
+	{
+		return type.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) type).asElement() : null;
+	}
+	
+	private String[] getParameterNames(ExecutableElement executable)
+	{
+		return executable.getParameters().stream().map(parameter -> getCanonicalName(parameter.asType())).toArray(String[]::new);
+	}
+	
+	/*
+	 * the same value as Class.getCanonicalName() of erased type returns
+	 */
+	private String getCanonicalName(TypeMirror type)
+	{
+		switch (type.getKind())
+		{
+			case ARRAY:
+				String componentName = getCanonicalName(((ArrayType) type).getComponentType());
+				return componentName == null ? null : componentName + "[]";
+			case DECLARED:
+				TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+				return typeElement.getNestingKind() == NestingKind.TOP_LEVEL || typeElement.getNestingKind() == NestingKind.MEMBER
+						? typeElement.getQualifiedName().toString() : null;
+			case TYPEVAR:
+			case INTERSECTION:
+				return getCanonicalName(types.erasure(type));
+			default:
+				return type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID ? type.getKind().name().toLowerCase(Locale.ROOT) : null;
+		}
+	}
+}
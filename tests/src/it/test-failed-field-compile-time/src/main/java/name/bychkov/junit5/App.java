@@ -0,0 +1,11 @@
+package name.bychkov.junit5;
+
+public class App
+{
+	@CheckField(targetClass = SimpleDTO.class, value = "CONSTANT_5")
+	private String field;
+	
+	public static void main(String[] args)
+	{
+	}
+}
\ No newline at end of file
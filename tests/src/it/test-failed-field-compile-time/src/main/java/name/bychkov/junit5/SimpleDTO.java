@@ -0,0 +1,10 @@
+package name.bychkov.junit5;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.function.Function;
+
+public class SimpleDTO implements Serializable
+{
+	private static final String CONSTANT_1 = "test constant 1";
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text =~ /(?m)^\[ERROR\] .*App\.java.*Annotation @CheckField on name\.bychkov\.junit5\.App\.field warns: Class name\.bychkov\.junit5\.SimpleDTO has no accessible field CONSTANT_5$/
+assert !(buildLog.text =~ /Tests run:/)
@@ -0,0 +1,5 @@
+package name.bychkov.junit5;
+
+public class UnserializableDTO
+{
+}
\ No newline at end of file
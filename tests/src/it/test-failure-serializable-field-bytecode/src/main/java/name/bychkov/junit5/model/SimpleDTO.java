@@ -0,0 +1,16 @@
+package name.bychkov.junit5.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import name.bychkov.junit5.UnserializableDTO;
+
+public class SimpleDTO implements java.io.Serializable
+{
+	private Map<String, List<UnserializableDTO>> field;
+	
+	public static class Excluded
+	{
+	}
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text =~ /(?m)^\[ERROR\] Tests run: 1, Failures: 1, Errors: 0, Skipped: 0$/
+assert buildLog.text.contains('name.bychkov.junit5.model.SimpleDTO -> field:name.bychkov.junit5.UnserializableDTO -> Not implements java.io.Serializable')
+assert !buildLog.text.contains('name.bychkov.junit5.model.SimpleDTO.Excluded -> Not implements')
@@ -0,0 +1,6 @@
+package name.bychkov.junit5;
+
+public class SimpleDTO
+{
+	private String field;
+}
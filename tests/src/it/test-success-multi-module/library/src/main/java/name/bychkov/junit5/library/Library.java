@@ -0,0 +1,8 @@
+package name.bychkov.junit5.library;
+
+import name.bychkov.junit5.CheckField;
+
+@CheckField(targetClass = LibraryDTO.class, value = "name")
+public class Library
+{
+}
@@ -0,0 +1,6 @@
+package name.bychkov.junit5.library;
+
+public class LibraryDTO
+{
+	private String name;
+}
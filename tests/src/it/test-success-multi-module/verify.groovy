@@ -0,0 +1,3 @@
+File buildLog = new File( basedir, 'build.log' )
+// check of library module is read from its data file in classpath of application module
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 2, Failures: 0, Errors: 0, Skipped: 0$/
@@ -0,0 +1,38 @@
+package name.bychkov.junit5;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.BinaryFileSource;
+
+public abstract class PacketTemplateTest
+{
+	public static class PacketDecoder implements BinaryFileSource.Decoder
+	{
+		@Override
+		public Arguments decode(ByteBuffer record)
+		{
+			return Arguments.of(record.getInt(), record.getInt());
+		}
+	}
+	
+	private int id;
+	private int value;
+	
+	@ParameterizedConstructor
+	@BinaryFileSource(resources = "/packets.bin", headerSize = 4, recordSize = 8, decoder = PacketDecoder.class)
+	public PacketTemplateTest(int id, int value)
+	{
+		this.id = id;
+		this.value = value;
+	}
+	
+	@Test
+	public void test()
+	{
+		System.out.println("Decoded packet: " + id + " " + value);
+	}
+}
@@ -0,0 +1,28 @@
+package name.bychkov.junit5;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.BinaryFileSource;
+
+public abstract class RawPacketTemplateTest
+{
+	private ByteBuffer record;
+	
+	@ParameterizedConstructor
+	@BinaryFileSource(resources = "/packets.bin", headerSize = 4, recordSize = 8)
+	public RawPacketTemplateTest(ByteBuffer record)
+	{
+		this.record = record;
+	}
+	
+	@Test
+	public void test()
+	{
+		Assertions.assertTrue(record.isReadOnly());
+		System.out.println("Raw packet: " + record.getInt(0) + " " + record.remaining() + " bytes");
+	}
+}
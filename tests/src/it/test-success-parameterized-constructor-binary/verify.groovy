@@ -0,0 +1,7 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text.contains( 'Tests run: 6, Failures: 0, Errors: 0, Skipped: 0' )
+assert buildLog.text.contains( 'Decoded packet: 3 9' )
+assert buildLog.text.contains( 'Decoded packet: 5 25' )
+assert buildLog.text.contains( 'Decoded packet: 7 49' )
+assert buildLog.text.contains( 'Raw packet: 3 8 bytes' )
+assert buildLog.text.contains( 'Raw packet: 7 8 bytes' )
@@ -0,0 +1,30 @@
+package name.bychkov.junit5;
+
+import org.junit.jupiter.api.Test;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.CsvFileSource;
+
+public abstract class CsvFileTemplateTest
+{
+	private String method;
+	private String path;
+	private long duration;
+	private Integer status;
+	
+	@ParameterizedConstructor
+	@CsvFileSource(resources = "/traffic.csv", numLinesToSkip = 1, nullValues = "-")
+	public CsvFileTemplateTest(String method, String path, long duration, Integer status)
+	{
+		this.method = method;
+		this.path = path;
+		this.duration = duration;
+		this.status = status;
+	}
+	
+	@Test
+	public void test()
+	{
+		System.out.println("@CsvFileSource row: " + method + " " + path + " " + duration + " " + status);
+	}
+}
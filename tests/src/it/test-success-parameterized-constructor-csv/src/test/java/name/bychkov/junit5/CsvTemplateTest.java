@@ -0,0 +1,30 @@
+package name.bychkov.junit5;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.CsvSource;
+
+public abstract class CsvTemplateTest
+{
+	private String name;
+	private int count;
+	private TimeUnit unit;
+	
+	@ParameterizedConstructor
+	@CsvSource({ "first, 1, SECONDS", "'second, quoted', 22, MINUTES", "'', 333, HOURS" })
+	public CsvTemplateTest(String name, int count, TimeUnit unit)
+	{
+		this.name = name;
+		this.count = count;
+		this.unit = unit;
+	}
+	
+	@Test
+	public void test()
+	{
+		System.out.println("@CsvSource row: [" + name + "] " + count + " " + unit);
+	}
+}
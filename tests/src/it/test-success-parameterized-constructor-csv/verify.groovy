@@ -0,0 +1,8 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text.contains( 'Tests run: 6, Failures: 0, Errors: 0, Skipped: 0' )
+assert buildLog.text.contains( '@CsvSource row: [first] 1 SECONDS' )
+assert buildLog.text.contains( '@CsvSource row: [second, quoted] 22 MINUTES' )
+assert buildLog.text.contains( '@CsvSource row: [] 333 HOURS' )
+assert buildLog.text.contains( '@CsvFileSource row: GET /users 15 200' )
+assert buildLog.text.contains( '@CsvFileSource row: POST /users?name=a,b 120 201' )
+assert buildLog.text.contains( '@CsvFileSource row: DELETE /users/1 7 null' )
@@ -0,0 +1,51 @@
+package name.bychkov.junit5;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.MethodSource;
+
+public abstract class TemplateTest
+{
+	private static final AtomicInteger GENERATED = new AtomicInteger(-1);
+	
+	private int constructorParameter;
+	
+	@ParameterizedConstructor
+	@MethodSource("values")
+	public TemplateTest(int constructorParameter)
+	{
+		this.constructorParameter = constructorParameter;
+	}
+	
+	public static Stream<Integer> values()
+	{
+		return Stream.iterate(0, i -> i + 1).limit(100).peek(GENERATED::set);
+	}
+	
+	@BeforeAll
+	public static void init()
+	{
+		System.out.println("@BeforeAll callback success");
+	}
+	
+	@AfterAll
+	public static void shitdown()
+	{
+		System.out.println("@AfterAll callback success. Generated values: " + (GENERATED.get() + 1));
+	}
+	
+	@Test
+	public void test1()
+	{
+		/* the next row is read ahead to find out if the current one is the last */
+		Assertions.assertTrue(GENERATED.get() <= constructorParameter + 1, "Arguments are generated lazily");
+		System.out.println("@Test test1 executed. constructorParameter value: " + constructorParameter);
+	}
+}
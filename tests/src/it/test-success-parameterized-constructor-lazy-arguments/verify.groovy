@@ -0,0 +1,6 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text.contains( 'Tests run: 100, Failures: 0, Errors: 0, Skipped: 0' )
+assert buildLog.text.contains( '@Test test1 executed. constructorParameter value: 0' )
+assert buildLog.text.contains( '@Test test1 executed. constructorParameter value: 99' )
+assert 1 == buildLog.text.count( '@BeforeAll callback success' )
+assert 1 == buildLog.text.count( '@AfterAll callback success. Generated values: 100' )
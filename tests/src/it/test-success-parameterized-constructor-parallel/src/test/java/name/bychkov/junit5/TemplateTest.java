@@ -0,0 +1,57 @@
+package name.bychkov.junit5;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import name.bychkov.junit5.params.ParameterizedConstructor;
+import name.bychkov.junit5.params.provider.ValueSource;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class TemplateTest
+{
+	/* all rows must be executed at the same time to pass the barrier */
+	private static final CyclicBarrier BARRIER = new CyclicBarrier(4);
+	
+	private String constructorParameter;
+	private String test1Thread;
+	
+	@ParameterizedConstructor(parallel = true)
+	@ValueSource(strings = { "test-value-294", "test-value-168", "test-value-537", "test-value-901" })
+	public TemplateTest(String constructorParameter)
+	{
+		this.constructorParameter = constructorParameter;
+	}
+	
+	@BeforeAll
+	public static void init()
+	{
+		System.out.println("@BeforeAll callback success");
+	}
+	
+	@AfterAll
+	public static void shitdown()
+	{
+		System.out.println("@AfterAll callback success");
+	}
+	
+	@Test
+	public void test1() throws Exception
+	{
+		BARRIER.await(30, TimeUnit.SECONDS);
+		test1Thread = Thread.currentThread().getName();
+		System.out.println("@Test test1 executed. constructorParameter value: " + constructorParameter);
+	}
+	
+	@Test
+	public void test2()
+	{
+		Assertions.assertNotNull(test1Thread, "test1 of the same row is executed before");
+		System.out.println("@Test test2 executed. constructorParameter value: " + constructorParameter);
+	}
+}
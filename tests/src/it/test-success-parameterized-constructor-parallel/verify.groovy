@@ -0,0 +1,10 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text.contains( 'Tests run: 8, Failures: 0, Errors: 0, Skipped: 0' )
+assert buildLog.text.contains( '@Test test1 executed. constructorParameter value: test-value-294' )
+assert buildLog.text.contains( '@Test test2 executed. constructorParameter value: test-value-294' )
+assert buildLog.text.contains( '@Test test1 executed. constructorParameter value: test-value-901' )
+assert buildLog.text.contains( '@Test test2 executed. constructorParameter value: test-value-901' )
+assert 4 == buildLog.text.count( '@Test test1 executed' )
+assert 4 == buildLog.text.count( '@Test test2 executed' )
+assert 1 == buildLog.text.count( '@BeforeAll callback success' )
+assert 1 == buildLog.text.count( '@AfterAll callback success' )
@@ -0,0 +1,18 @@
+package name.bychkov.junit5;
+
+public class App
+{
+	@CheckField(targetClass = SimpleDTO.class, value = "name")
+	private String name;
+	
+	@CheckConstructor(targetClass = SimpleDTO.class, parameters = String.class)
+	public App()
+	{
+	}
+	
+	@CheckMethod(targetClass = SimpleDTO.class, value = "getName")
+	public String getName()
+	{
+		return name;
+	}
+}
@@ -0,0 +1,16 @@
+package name.bychkov.junit5;
+
+public class SimpleDTO
+{
+	private String name;
+	
+	public SimpleDTO(String name)
+	{
+		this.name = name;
+	}
+	
+	public String getName()
+	{
+		return name;
+	}
+}
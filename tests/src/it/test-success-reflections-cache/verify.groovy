@@ -0,0 +1,7 @@
+File buildLog = new File( basedir, 'build.log' )
+def text = buildLog.text
+// both builds report all checks, the first one executes them, the second one skips them as passed in the first build
+assert text.findAll(/(?m)^\[INFO\] Tests run: 3, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: .* - in name.bychkov.junit5.ReflectionTests$/).size() == 2
+assert text.findAll(/(?m)^INFO: Checks passed in previous run are skipped: (\d+), passed checks are saved to .*reflections-cache\.dat: 3$/) { match, count -> count as int } == [0, 3]
+File cacheFile = new File( basedir, 'target/reflections-cache.dat' )
+assert cacheFile.isFile()
@@ -0,0 +1,11 @@
+package name.bychkov.junit5;
+
+public class SimpleDTO
+{
+	private String field;
+
+        public String getField()
+        {
+               return field;
+        }
+}
@@ -0,0 +1,13 @@
+package name.bychkov.junit5.broken;
+
+import name.bychkov.junit5.CheckField;
+import name.bychkov.junit5.SimpleDTO;
+
+/*
+ * check fails, but package is not selected
+ */
+public class Broken
+{
+	@CheckField(targetClass = SimpleDTO.class, value = "absent")
+	private String field;
+}
@@ -0,0 +1,4 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0$/
+File shard = new File( basedir, 'target/classes/META-INF/maven/name.bychkov/junit5-extensions/reflections-data/name.bychkov.junit5.broken.dat' )
+assert shard.isFile()
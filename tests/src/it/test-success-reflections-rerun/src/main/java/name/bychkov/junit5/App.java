@@ -0,0 +1,7 @@
+package name.bychkov.junit5;
+
+public class App
+{
+	@CheckField(targetClass = SimpleDTO.class, value = "field")
+	private String field;
+}
@@ -0,0 +1,8 @@
+package name.bychkov.junit5;
+
+/*
+ * reads the same data file as ReflectionTests in the same JVM
+ */
+public class MoreReflectionTests extends ReflectionTests
+{
+}
@@ -0,0 +1,5 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: .* - in name.bychkov.junit5.MoreReflectionTests$/
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: .* - in name.bychkov.junit5.ReflectionTests$/
+File dataFile = new File( basedir, 'target/classes/META-INF/maven/name.bychkov/junit5-extensions/reflections-data.dat' )
+assert dataFile.isFile()
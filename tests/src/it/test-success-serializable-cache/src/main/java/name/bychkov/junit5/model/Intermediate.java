@@ -0,0 +1,5 @@
+package name.bychkov.junit5.model;
+
+public interface Intermediate extends java.io.Serializable
+{
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package name.bychkov.junit5.model;
+
+public class SimpleDTO implements Intermediate
+{
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+@CheckSerializable
+package name.bychkov.junit5.model;
+
+import name.bychkov.junit5.CheckSerializable;
@@ -0,0 +1,8 @@
+package name.bychkov.junit5;
+
+/*
+ * executes the same checks as SerializationTest with verdicts stored by it
+ */
+public class MoreSerializationTest extends SerializationTest
+{
+}
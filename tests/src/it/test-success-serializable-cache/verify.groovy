@@ -0,0 +1,5 @@
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: .* - in name.bychkov.junit5.MoreSerializationTest$/
+assert buildLog.text =~ /(?m)^\[INFO\] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: .* - in name.bychkov.junit5.SerializationTest$/
+File cacheFile = new File( basedir, 'target/serializable-cache.dat' )
+assert cacheFile.isFile()
@@ -1,7 +1,6 @@
 package name.bychkov.junit5;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
@@ -9,72 +8,505 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.DirectoryNotEmptyException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.StringUtils;
 import org.opentest4j.AssertionFailedError;
 
+@ExtendWith(AbstractTests.ConfigurationExtension.class)
 public abstract class AbstractTests
 {
+	/**
+	 * Configuration parameter with count of threads executing generated checks. By default checks are executed sequentially
+	 */
+	public static final String PARALLELISM_PARAMETER = "name.bychkov.junit5.checks.parallelism";
+	/**
+	 * Configuration parameter with comma-separated list of packages of annotated elements, data of other packages is not loaded.
+	 * Name ending with ".*" matches the package and its subpackages. By default data of all packages is loaded
+	 */
+	public static final String PACKAGES_PARAMETER = "name.bychkov.junit5.packages";
+	
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractTests.class);
+	private static final int BUFFER_SIZE = 4 * 0x400; // 4KB
+	
+	private Function<String, Optional<String>> configurationParameters = key -> Optional.ofNullable(System.getProperty(key));
+	
+	/*
+	 * configuration parameter of JUnit Platform (e.g. from junit-platform.properties or system properties)
+	 */
+	protected Optional<String> getConfigurationParameter(String key)
+	{
+		return configurationParameters.apply(key);
+	}
 	
-	@SuppressWarnings("unchecked")
 	protected Set<Serializable> readFile(String filename)
 	{
-		URL resource = getClass().getClassLoader().getResource(filename);
-		if (resource == null)
+		try (Stream<Serializable> stream = streamFile(filename))
 		{
-			return Collections.emptySet();
+			return stream.collect(Collectors.toCollection(LinkedHashSet::new));
 		}
-		try (InputStream inputStream = resource.openStream())
+	}
+	
+	/*
+	 * tests with the same partition key are executed sequentially, with different keys - in parallel (if it is configured)
+	 * items for which testProducer returns null are skipped
+	 */
+	protected <T> Stream<DynamicTest> execute(Stream<T> items, Function<? super T, String> partitionKey, Function<? super T, DynamicTest> testProducer)
+	{
+		return execute(items, partitionKey, testProducer, getParallelism(PARALLELISM_PARAMETER, 1));
+	}
+	
+	/*
+	 * the same as above with explicit count of threads, worker pool is shut down when returned stream is closed
+	 */
+	protected <T> Stream<DynamicTest> execute(Stream<T> items, Function<? super T, String> partitionKey, Function<? super T, DynamicTest> testProducer,
+			int parallelism)
+	{
+		if (parallelism <= 1)
+		{
+			return items.map(testProducer).filter(Objects::nonNull);
+		}
+		ExecutorService pool = newWorkerPool(parallelism);
+		return execute(items, partitionKey, testProducer, pool, parallelism).onClose(pool::shutdownNow);
+	}
+	
+	/*
+	 * the same as above with worker pool of parallelism threads shared by several executions, pool is shut down by its owner
+	 */
+	protected <T> Stream<DynamicTest> execute(Stream<T> items, Function<? super T, String> partitionKey, Function<? super T, DynamicTest> testProducer,
+			ExecutorService pool, int parallelism)
+	{
+		return ParallelChecksExecutor.execute(items, partitionKey, testProducer, pool, parallelism);
+	}
+	
+	/*
+	 * bounded pool of daemon threads for execute()
+	 */
+	protected static ExecutorService newWorkerPool(int parallelism)
+	{
+		return ParallelChecksExecutor.newPool(parallelism);
+	}
+	
+	/*
+	 * count of threads from configuration parameter, defaultValue if parameter is absent
+	 */
+	protected int getParallelism(String parameter, int defaultValue)
+	{
+		Optional<String> value = getConfigurationParameter(parameter).map(String::trim);
+		try
+		{
+			return value.map(Integer::parseInt).orElse(defaultValue);
+		}
+		catch (NumberFormatException e)
+		{
+			LOG.warn(() -> String.format("Value '%s' of parameter %s is not a number, tests are executed sequentially", value.get(), parameter));
+			return 1;
+		}
+	}
+	
+	/*
+	 * all copies of file in classpath (e.g. in jars of other modules) are read
+	 * records of single copy are decoded on demand while stream is consumed
+	 * several copies are decoded in parallel by bounded pool not more than one copy per thread ahead of consumer,
+	 * records are returned in classpath order of copies, records already returned from previous copies are skipped
+	 */
+	protected Stream<Serializable> streamFile(String filename)
+	{
+		List<URL> resources;
+		try
+		{
+			resources = Collections.list(getClass().getClassLoader().getResources(filename));
+		}
+		catch (IOException e)
+		{
+			LOG.info(e, () -> String.format("Error has acquired while file searching: %s", e.getMessage()));
+			return Stream.empty();
+		}
+		return streamFile(resources);
+	}
+	
+	/*
+	 * the same as above for found copies of file
+	 */
+	Stream<Serializable> streamFile(List<URL> resources)
+	{
+		Predicate<String> packageFilter = getPackageFilter();
+		if (resources.size() <= 1)
 		{
-			if (inputStream == null)
+			return resources.isEmpty() ? Stream.empty() : streamResource(resources.get(0), packageFilter);
+		}
+		int parallelism = Math.min(resources.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService pool = newWorkerPool(parallelism);
+		Iterator<Serializable> records = new PrefetchingIterator(resources.iterator(), packageFilter, pool, parallelism);
+		Set<Serializable> returned = ConcurrentHashMap.newKeySet();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.filter(returned::add).onClose(pool::shutdownNow);
+	}
+	
+	/*
+	 * records of copies decoded in pool, the next copy is submitted when the oldest one is taken by consumer,
+	 * pool is shut down when the last copy is submitted
+	 */
+	private class PrefetchingIterator implements Iterator<Serializable>
+	{
+		private final Iterator<URL> resources;
+		private final Predicate<String> packageFilter;
+		private final ExecutorService pool;
+		private final Deque<Future<List<Serializable>>> decoded = new ArrayDeque<>();
+		private Iterator<Serializable> current = Collections.emptyIterator();
+		
+		PrefetchingIterator(Iterator<URL> resources, Predicate<String> packageFilter, ExecutorService pool, int window)
+		{
+			this.resources = resources;
+			this.packageFilter = packageFilter;
+			this.pool = pool;
+			for (int i = 0; i < window; i++)
+			{
+				submit();
+			}
+		}
+		
+		private void submit()
+		{
+			if (resources.hasNext())
 			{
-				return Collections.emptySet();
+				URL resource = resources.next();
+				decoded.add(pool.submit(() ->
+				{
+					try (Stream<Serializable> stream = streamResource(resource, packageFilter))
+					{
+						return stream.collect(Collectors.toList());
+					}
+				}));
+				if (!resources.hasNext())
+				{
+					pool.shutdown();
+				}
 			}
-			final int bufLen = 4 * 0x400; // 4KB
-			byte[] buf = new byte[bufLen];
-			int readLen;
-			try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			while (!current.hasNext() && !decoded.isEmpty())
 			{
-				while ((readLen = inputStream.read(buf, 0, bufLen)) != -1)
+				Future<List<Serializable>> next = decoded.poll();
+				submit();
+				try
+				{
+					current = next.get().iterator();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(e);
+				}
+				catch (ExecutionException e)
 				{
-					outputStream.write(buf, 0, readLen);
+					throw ExceptionUtils.throwAsUncheckedException(e.getCause());
 				}
-				byte[] bytes = outputStream.toByteArray();
-				ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(bytes));
-				return (Set<Serializable>) in.readObject();
 			}
+			return current.hasNext();
+		}
+		
+		@Override
+		public Serializable next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+	}
+	
+	/*
+	 * file is manifest of shards (or data file of previous versions), only shards of selected packages are read
+	 */
+	private Stream<Serializable> streamResource(URL resource, Predicate<String> packageFilter)
+	{
+		try
+		{
+			return StreamSupport.stream(new RecordSpliterator(readRecords(resource, null), resource, packageFilter), false);
 		}
 		catch (Throwable e)
 		{
 			LOG.info(e, () -> String.format("Error has acquired while file reading: %s", e.getMessage()));
-			return Collections.emptySet();
+			return Stream.empty();
 		}
-		finally
+	}
+	
+	/*
+	 * records of file (annotation objects and shards of manifest) from cache or decoded on demand
+	 * decoded records are cached when all of them are read, so the same version of file is decoded once
+	 * file is skipped if its hash does not match expected one (if specified)
+	 */
+	@SuppressWarnings("unchecked")
+	private Iterator<Object> readRecords(URL resource, Integer expectedHash) throws IOException, URISyntaxException, ClassNotFoundException
+	{
+		DataFileCache.Version version = DataFileCache.getVersion(resource);
+		List<Object> cached = DataFileCache.get(resource, version);
+		if (cached != null)
+		{
+			return cached.iterator();
+		}
+		ByteBuffer buffer = readBuffer(resource);
+		if (expectedHash != null && AggregatedDataFile.Shard.hash(buffer) != expectedHash)
+		{
+			LOG.warn(() -> String.format("File %s does not match its manifest, it is skipped", resource));
+			return Collections.emptyIterator();
+		}
+		if (BinaryDataReader.isBinaryData(buffer))
+		{
+			return new DecodingIterator(new BinaryDataReader(buffer), resource, version);
+		}
+		// files created by previous versions
+		try (ObjectInput in = new ObjectInputStream(new BufferedInputStream(resource.openStream())))
+		{
+			List<Object> records = new ArrayList<>((Set<Serializable>) in.readObject());
+			DataFileCache.put(resource, version, records);
+			return records.iterator();
+		}
+	}
+	
+	/*
+	 * null if all packages are selected
+	 */
+	private Predicate<String> getPackageFilter()
+	{
+		List<String> patterns = getConfigurationParameter(PACKAGES_PARAMETER).map(value -> Arrays.stream(value.split(",")))
+				.orElseGet(Stream::empty).map(String::trim).filter(StringUtils::isNotBlank).collect(Collectors.toList());
+		if (patterns.isEmpty() || patterns.contains("*"))
+		{
+			return null;
+		}
+		return packageName -> patterns.stream().anyMatch(pattern -> pattern.endsWith(".*")
+				? (packageName + ".").startsWith(pattern.substring(0, pattern.length() - 1))
+				: pattern.equals(packageName));
+	}
+	
+	/*
+	 * file is mapped into memory, other resources (e.g. from jar) are read in single pass
+	 */
+	private static ByteBuffer readBuffer(URL resource) throws IOException, URISyntaxException
+	{
+		if ("file".equals(resource.getProtocol()))
+		{
+			try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ))
+			{
+				return channel.map(MapMode.READ_ONLY, 0, channel.size());
+			}
+		}
+		URLConnection connection = resource.openConnection();
+		long length = connection.getContentLengthLong();
+		try (InputStream inputStream = connection.getInputStream())
+		{
+			byte[] bytes = new byte[length >= 0 && length < Integer.MAX_VALUE ? (int) length : BUFFER_SIZE];
+			int count = 0;
+			while (true)
+			{
+				if (count == bytes.length)
+				{
+					int next = inputStream.read();
+					if (next == -1)
+					{
+						break;
+					}
+					bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, BUFFER_SIZE));
+					bytes[count++] = (byte) next;
+				}
+				int readLen = inputStream.read(bytes, count, bytes.length - count);
+				if (readLen == -1)
+				{
+					break;
+				}
+				count += readLen;
+			}
+			return ByteBuffer.wrap(bytes, 0, count);
+		}
+	}
+	
+	/*
+	 * records of manifest, records of selected shards are read in place of their shard records
+	 */
+	private class RecordSpliterator extends Spliterators.AbstractSpliterator<Serializable>
+	{
+		private final Iterator<Object> records;
+		private final URL resource;
+		private final Predicate<String> packageFilter;
+		private Iterator<Object> shardRecords = Collections.emptyIterator();
+		
+		RecordSpliterator(Iterator<Object> records, URL resource, Predicate<String> packageFilter)
+		{
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.records = records;
+			this.resource = resource;
+			this.packageFilter = packageFilter;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Serializable> action)
+		{
+			while (true)
+			{
+				Object record;
+				if (shardRecords.hasNext())
+				{
+					record = shardRecords.next();
+				}
+				else if (records.hasNext())
+				{
+					record = records.next();
+				}
+				else
+				{
+					return false;
+				}
+				if (record instanceof AggregatedDataFile.Shard)
+				{
+					shardRecords = openShard((AggregatedDataFile.Shard) record);
+				}
+				else
+				{
+					action.accept((Serializable) record);
+					return true;
+				}
+			}
+		}
+		
+		private Iterator<Object> openShard(AggregatedDataFile.Shard shard)
+		{
+			if (shard.getRecordCount() == 0 || (packageFilter != null && !packageFilter.test(shard.getPackageName())))
+			{
+				return Collections.emptyIterator();
+			}
+			try
+			{
+				return readRecords(new URL(resource, shard.getLocation()), shard.getHash());
+			}
+			catch (Throwable e)
+			{
+				LOG.info(e, () -> String.format("Error has acquired while file reading: %s", e.getMessage()));
+				return Collections.emptyIterator();
+			}
+		}
+	}
+	
+	/*
+	 * decodes records one by one, they are put into cache after the last one is read
+	 * records with unknown tags are skipped, reading is stopped on the first error (records are not cached then)
+	 */
+	private class DecodingIterator implements Iterator<Object>
+	{
+		private final BinaryDataReader reader;
+		private final URL resource;
+		/* null if records are not cached */
+		private final DataFileCache.Version version;
+		private final List<Object> records;
+		private Object next;
+		private boolean failed;
+		private boolean cached;
+		
+		DecodingIterator(BinaryDataReader reader, URL resource, DataFileCache.Version version)
+		{
+			this.reader = reader;
+			this.resource = resource;
+			this.version = version;
+			this.records = version == null ? null : new ArrayList<>();
+		}
+		
+		@Override
+		public boolean hasNext()
 		{
 			try
 			{
-				Path path = Paths.get(resource.toURI());
-				Files.deleteIfExists(path);
-				Files.deleteIfExists(path.getParent());
-				Files.deleteIfExists(path.getParent().getParent());
+				while (next == null && !failed && reader.hasNextRecord())
+				{
+					int tag = reader.nextRecord();
+					next = tag == AggregatedDataFile.SHARD_TAG ? AggregatedDataFile.Shard.read(reader) : readRecord(tag, reader);
+				}
 			}
-			catch (DirectoryNotEmptyException e)
+			catch (IOException e)
+			{
+				failed = true;
+				LOG.info(e, () -> String.format("Error has acquired while file reading: %s", e.getMessage()));
+			}
+			if (next == null && !failed && !cached && records != null)
+			{
+				cached = true;
+				DataFileCache.put(resource, version, Collections.unmodifiableList(records));
+			}
+			return next != null;
+		}
+		
+		@Override
+		public Object next()
+		{
+			if (!hasNext())
 			{
-				LOG.debug(e, () -> String.format("Error has acquired while directory removing: %s", e.getMessage()));
+				throw new NoSuchElementException();
 			}
-			catch (IOException | URISyntaxException e)
+			Object result = next;
+			next = null;
+			if (records != null)
 			{
-				LOG.warn(e, () -> String.format("Error has acquired while file or directory removing: %s", e.getMessage()));
+				records.add(result);
 			}
+			return result;
+		}
+	}
+	
+	/*
+	 * read object of record with specified tag
+	 * records with unknown tags are skipped
+	 */
+	protected Serializable readRecord(int tag, BinaryDataReader reader) throws IOException
+	{
+		return CheckObjectCodec.read(tag, reader);
+	}
+	
+	static class ConfigurationExtension implements TestInstancePostProcessor
+	{
+		@Override
+		public void postProcessTestInstance(Object testInstance, ExtensionContext context)
+		{
+			((AbstractTests) testInstance).configurationParameters = context::getConfigurationParameter;
 		}
 	}
 	
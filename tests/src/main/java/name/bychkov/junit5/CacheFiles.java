@@ -0,0 +1,91 @@
+package name.bychkov.junit5;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+ * file and hashing helpers of caches kept between runs (reflection checks and serializability verdicts)
+ */
+final class CacheFiles
+{
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	
+	private CacheFiles()
+	{
+	}
+	
+	/*
+	 * file is replaced atomically (if file system supports it), so concurrent runs do not read partially written file
+	 */
+	static void writeFile(Path file, BinaryDataWriter writer) throws IOException
+	{
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try (OutputStream output = Files.newOutputStream(temporaryFile))
+		{
+			writer.writeTo(output);
+		}
+		try
+		{
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e)
+		{
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+	
+	/*
+	 * null if class file is not found
+	 */
+	static byte[] readClassFile(ClassLoader classLoader, String internalName) throws IOException
+	{
+		try (InputStream classStream = classLoader.getResourceAsStream(internalName + ".class"))
+		{
+			return classStream == null ? null : readAll(classStream);
+		}
+	}
+	
+	private static byte[] readAll(InputStream input) throws IOException
+	{
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		for (int read; (read = input.read(chunk)) != -1;)
+		{
+			output.write(chunk, 0, read);
+		}
+		return output.toByteArray();
+	}
+	
+	static MessageDigest createDigest()
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	static String toHex(byte[] bytes)
+	{
+		char[] result = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++)
+		{
+			result[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+			result[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+		return new String(result);
+	}
+}
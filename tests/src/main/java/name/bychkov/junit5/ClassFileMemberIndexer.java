@@ -0,0 +1,120 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/*
+ * creates ClassMemberIndex from class files, classes are neither loaded nor initialized
+ * hierarchy is traversed in the same way as ReflectionUtils does:
+ * fields of superclasses and interfaces hidden by fields with the same name are skipped,
+ * overridden methods, abstract methods of interfaces and methods of java.lang.Object are skipped
+ */
+class ClassFileMemberIndexer
+{
+	private static final String OBJECT_CLASS = "java/lang/Object";
+	
+	private final ClassFileRepository classFiles;
+	
+	ClassFileMemberIndexer(ClassLoader classLoader)
+	{
+		this.classFiles = new ClassFileRepository(classLoader);
+	}
+	
+	synchronized ClassMemberIndex index(String className) throws ClassNotFoundException, IOException
+	{
+		ClassNode targetNode = getRequiredClassNode(className.replace('.', '/'));
+		
+		ClassMemberIndex index = new ClassMemberIndex();
+		for (MethodNode method : targetNode.methods)
+		{
+			if ("<init>".equals(method.name))
+			{
+				index.addConstructor(getCanonicalNames(Type.getArgumentTypes(method.desc)));
+			}
+		}
+		
+		Set<String> fieldNames = new HashSet<>();
+		Set<String> methodKeys = new HashSet<>();
+		Deque<String> interfaces = new ArrayDeque<>();
+		for (String name = targetNode.name; name != null && !OBJECT_CLASS.equals(name); )
+		{
+			ClassNode node = getRequiredClassNode(name);
+			addMembers(index, node, false, fieldNames, methodKeys);
+			interfaces.addAll(node.interfaces);
+			name = node.superName;
+		}
+		Set<String> visitedInterfaces = new HashSet<>();
+		while (!interfaces.isEmpty())
+		{
+			String name = interfaces.poll();
+			if (visitedInterfaces.add(name))
+			{
+				ClassNode node = getRequiredClassNode(name);
+				addMembers(index, node, true, fieldNames, methodKeys);
+				interfaces.addAll(node.interfaces);
+			}
+		}
+		return index;
+	}
+	
+	private void addMembers(ClassMemberIndex index, ClassNode node, boolean isInterface, Set<String> fieldNames, Set<String> methodKeys) throws IOException
+	{
+		Set<String> localFieldNames = new HashSet<>();
+		for (FieldNode field : node.fields)
+		{
+			if (!fieldNames.contains(field.name))
+			{
+				index.addField(field.name, getCanonicalName(Type.getType(field.desc)));
+				localFieldNames.add(field.name);
+			}
+		}
+		fieldNames.addAll(localFieldNames);
+		
+		Set<String> localMethodKeys = new HashSet<>();
+		for (MethodNode method : node.methods)
+		{
+			if (method.name.startsWith("<") || (method.access & Opcodes.ACC_SYNTHETIC) != 0
+					|| (isInterface && (method.access & Opcodes.ACC_ABSTRACT) != 0))
+			{
+				continue;
+			}
+			String methodKey = method.name + method.desc.substring(0, method.desc.indexOf(')') + 1);
+			if (!methodKeys.contains(methodKey))
+			{
+				index.addMethod(method.name, getCanonicalName(Type.getReturnType(method.desc)),
+						getCanonicalNames(Type.getArgumentTypes(method.desc)));
+				localMethodKeys.add(methodKey);
+			}
+		}
+		methodKeys.addAll(localMethodKeys);
+	}
+	
+	private String[] getCanonicalNames(Type[] types) throws IOException
+	{
+		String[] result = new String[types.length];
+		for (int i = 0; i < types.length; i++)
+		{
+			result[i] = getCanonicalName(types[i]);
+		}
+		return result;
+	}
+	
+	private String getCanonicalName(Type type) throws IOException
+	{
+		return classFiles.getCanonicalName(type);
+	}
+	
+	private ClassNode getRequiredClassNode(String internalName) throws ClassNotFoundException, IOException
+	{
+		return classFiles.getRequiredClassNode(internalName);
+	}
+}
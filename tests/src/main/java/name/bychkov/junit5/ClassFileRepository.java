@@ -0,0 +1,122 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InnerClassNode;
+
+/*
+ * class files read by ASM, classes are neither loaded nor initialized
+ * each class file is read once, classes are identified by internal names (e.g. java/util/Map$Entry)
+ */
+class ClassFileRepository
+{
+	private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+	
+	private final ClassLoader classLoader;
+	private final Map<String, Optional<ClassNode>> classNodes = new ConcurrentHashMap<>();
+	private final Map<String, Optional<String>> canonicalNames = new ConcurrentHashMap<>();
+	
+	ClassFileRepository(ClassLoader classLoader)
+	{
+		this.classLoader = classLoader;
+	}
+	
+	ClassNode getRequiredClassNode(String internalName) throws ClassNotFoundException, IOException
+	{
+		return getClassNode(internalName).orElseThrow(() -> new ClassNotFoundException(internalName.replace('/', '.')));
+	}
+	
+	Optional<ClassNode> getClassNode(String internalName) throws IOException
+	{
+		Optional<ClassNode> result = classNodes.get(internalName);
+		if (result == null)
+		{
+			try (InputStream classStream = classLoader.getResourceAsStream(internalName + ".class"))
+			{
+				result = classStream == null ? Optional.empty() : Optional.of(parse(new ClassReader(classStream)));
+			}
+			Optional<ClassNode> previous = classNodes.putIfAbsent(internalName, result);
+			result = previous == null ? result : previous;
+		}
+		return result;
+	}
+	
+	/*
+	 * class file found not through class loader (e.g. by scanning of package) is read and added to repository,
+	 * if class with the same name is already read, it is returned instead
+	 */
+	ClassNode addClassFile(InputStream classStream) throws IOException
+	{
+		ClassNode node = parse(new ClassReader(classStream));
+		return classNodes.merge(node.name, Optional.of(node), (previous, added) -> previous.isPresent() ? previous : added).get();
+	}
+	
+	private static ClassNode parse(ClassReader reader)
+	{
+		ClassNode node = new ClassNode();
+		reader.accept(node, PARSING_OPTIONS);
+		return node;
+	}
+	
+	/*
+	 * the same value as Class.getCanonicalName() returns
+	 */
+	String getCanonicalName(Type type) throws IOException
+	{
+		switch (type.getSort())
+		{
+			case Type.ARRAY:
+				String elementName = getCanonicalName(type.getElementType());
+				if (elementName == null)
+				{
+					return null;
+				}
+				StringBuilder result = new StringBuilder(elementName);
+				for (int i = 0; i < type.getDimensions(); i++)
+				{
+					result.append("[]");
+				}
+				return result.toString();
+			case Type.OBJECT:
+				return getCanonicalName(type.getInternalName());
+			default:
+				return type.getClassName();
+		}
+	}
+	
+	String getCanonicalName(String internalName) throws IOException
+	{
+		if (internalName.indexOf('$') < 0)
+		{
+			return internalName.replace('/', '.');
+		}
+		Optional<String> result = canonicalNames.get(internalName);
+		if (result == null)
+		{
+			result = Optional.of(internalName.replace('/', '.'));
+			Optional<ClassNode> node = getClassNode(internalName);
+			if (node.isPresent())
+			{
+				for (InnerClassNode innerClass : node.get().innerClasses)
+				{
+					if (internalName.equals(innerClass.name))
+					{
+						String outerName = innerClass.outerName == null || innerClass.innerName == null
+								? null : getCanonicalName(innerClass.outerName);
+						result = Optional.ofNullable(outerName).map(name -> name + "." + innerClass.innerName);
+						break;
+					}
+				}
+			}
+			canonicalNames.put(internalName, result);
+		}
+		return result.orElse(null);
+	}
+}
@@ -0,0 +1,392 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+
+/*
+ * checks classes of package for serializability by the same rules as SerializationTest does it with reflection,
+ * but classes are found and inspected through their class files and are not loaded
+ */
+class ClassFileSerializationChecker
+{
+	private static final Logger LOG = LoggerFactory.getLogger(ClassFileSerializationChecker.class);
+	
+	private static final String OBJECT_CLASS = "java/lang/Object";
+	private static final String ENUM_CLASS = "java/lang/Enum";
+	private static final String SERIALIZABLE_INTERFACE = Type.getInternalName(Serializable.class);
+	private static final String ITERABLE_INTERFACE = Type.getInternalName(Iterable.class);
+	private static final String MAP_INTERFACE = Type.getInternalName(Map.class);
+	private static final String CLASS_FILE_SUFFIX = ".class";
+	
+	/* the same order as ReflectionUtils.findFields uses */
+	private static final Comparator<FieldNode> FIELD_ORDER = Comparator.comparingInt(field -> field.name.hashCode());
+	
+	private final ClassLoader classLoader;
+	private final ClassFileRepository classFiles;
+	
+	/* results of hasInterface for each interface */
+	private final Map<String, Map<String, Boolean>> implementations = new ConcurrentHashMap<>();
+	
+	private final SerializationRules<String, FieldNode, GenericType> rules;
+	
+	ClassFileSerializationChecker(ClassLoader classLoader)
+	{
+		this(classLoader, null);
+	}
+	
+	ClassFileSerializationChecker(ClassLoader classLoader, SerializationVerdictCache verdictCache)
+	{
+		this.classLoader = classLoader;
+		this.classFiles = new ClassFileRepository(classLoader);
+		this.rules = new SerializationRules<>(new ClassFileTypeModel(), verdictCache);
+	}
+	
+	/*
+	 * returns messages about problems of all classes of package and its subpackages accepted by canonical name filter
+	 */
+	List<String> checkPackage(String packageName, Predicate<String> canonicalNameFilter) throws ClassNotFoundException, IOException, URISyntaxException
+	{
+		List<String> failures = new ArrayList<>();
+		for (String className : findAllClassesInPackage(packageName))
+		{
+			if (canonicalNameFilter.test(classFiles.getCanonicalName(className)))
+			{
+				failures.addAll(isClassSerializable(className));
+			}
+		}
+		return failures;
+	}
+	
+	/*
+	 * internal names of classes from directories and jars of class path, the same classes as ReflectionUtils.findAllClassesInPackage finds
+	 */
+	Set<String> findAllClassesInPackage(String packageName) throws IOException, URISyntaxException
+	{
+		String packagePath = packageName.replace('.', '/');
+		Set<String> result = new LinkedHashSet<>();
+		Enumeration<URL> roots = classLoader.getResources(packagePath);
+		while (roots.hasMoreElements())
+		{
+			URL root = roots.nextElement();
+			if ("file".equals(root.getProtocol()))
+			{
+				scanDirectory(Paths.get(root.toURI()), result);
+			}
+			else if ("jar".equals(root.getProtocol()))
+			{
+				scanJar(root, packagePath.isEmpty() ? "" : packagePath + "/", result);
+			}
+			else
+			{
+				LOG.warn(() -> "Classes of package " + packageName + " in " + root + " are not scanned: unsupported protocol");
+			}
+		}
+		return result;
+	}
+	
+	private void scanDirectory(Path directory, Set<String> result) throws IOException
+	{
+		List<Path> classFilePaths;
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			classFilePaths = paths.filter(path -> isClassFile(path.getFileName().toString()) && Files.isRegularFile(path)).collect(Collectors.toList());
+		}
+		for (Path classFilePath : classFilePaths)
+		{
+			try (InputStream classStream = Files.newInputStream(classFilePath))
+			{
+				result.add(classFiles.addClassFile(classStream).name);
+			}
+		}
+	}
+	
+	private void scanJar(URL root, String entryPrefix, Set<String> result) throws IOException
+	{
+		URLConnection connection = root.openConnection();
+		connection.setUseCaches(false);
+		try (JarFile jarFile = ((JarURLConnection) connection).getJarFile())
+		{
+			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); )
+			{
+				JarEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && entry.getName().startsWith(entryPrefix)
+						&& isClassFile(entry.getName().substring(entry.getName().lastIndexOf('/') + 1)))
+				{
+					try (InputStream classStream = jarFile.getInputStream(entry))
+					{
+						result.add(classFiles.addClassFile(classStream).name);
+					}
+				}
+			}
+		}
+	}
+	
+	private static boolean isClassFile(String fileName)
+	{
+		return fileName.endsWith(CLASS_FILE_SUFFIX) && !"package-info.class".equals(fileName) && !"module-info.class".equals(fileName);
+	}
+	
+	List<String> isClassSerializable(String className) throws ClassNotFoundException, IOException
+	{
+		return rules.isClassSerializable(className);
+	}
+	
+	/*
+	 * check klass (class or interface) implements (direct or indirect - through superclasses or other interfaces) interfaceName
+	 */
+	private boolean hasInterface(String className, String interfaceName) throws ClassNotFoundException, IOException
+	{
+		Map<String, Boolean> results = implementations.computeIfAbsent(interfaceName, key -> new ConcurrentHashMap<>());
+		Boolean result = results.get(className);
+		if (result == null)
+		{
+			ClassNode node = classFiles.getRequiredClassNode(className);
+			result = className.equals(interfaceName) || node.superName != null && hasInterface(node.superName, interfaceName);
+			for (Iterator<String> interfaces = node.interfaces.iterator(); !result && interfaces.hasNext(); )
+			{
+				result = hasInterface(interfaces.next(), interfaceName);
+			}
+			results.put(className, result);
+		}
+		return result;
+	}
+	
+	private boolean isInterface(String className) throws ClassNotFoundException, IOException
+	{
+		return (classFiles.getRequiredClassNode(className).access & Opcodes.ACC_INTERFACE) != 0;
+	}
+	
+	/*
+	 * non-static and non-transient fields of class and its superclasses, fields of superclasses hidden by fields with the same name are skipped
+	 */
+	private List<FieldNode> findFields(ClassNode node) throws ClassNotFoundException, IOException
+	{
+		List<FieldNode> result = new ArrayList<>();
+		if (node.superName != null && !OBJECT_CLASS.equals(node.superName))
+		{
+			result.addAll(findFields(classFiles.getRequiredClassNode(node.superName)));
+		}
+		Set<String> localFieldNames = new HashSet<>();
+		node.fields.forEach(field -> localFieldNames.add(field.name));
+		result.removeIf(field -> localFieldNames.contains(field.name));
+		node.fields.stream().filter(field -> (field.access & (Opcodes.ACC_STATIC | Opcodes.ACC_TRANSIENT)) == 0)
+				.sorted(FIELD_ORDER).forEach(result::add);
+		return result;
+	}
+	
+	/*
+	 * classes by internal names, fields and generic types of fields from class files
+	 */
+	private class ClassFileTypeModel implements SerializationRules.TypeModel<String, FieldNode, GenericType>
+	{
+		@Override
+		public String getClassName(String className)
+		{
+			return className;
+		}
+		
+		@Override
+		public String getCanonicalName(String className) throws ClassNotFoundException, IOException
+		{
+			return classFiles.getCanonicalName(className);
+		}
+		
+		@Override
+		public boolean isEnum(String className) throws ClassNotFoundException, IOException
+		{
+			ClassNode node = classFiles.getRequiredClassNode(className);
+			return (node.access & Opcodes.ACC_ENUM) != 0 && ENUM_CLASS.equals(node.superName);
+		}
+		
+		@Override
+		public boolean isInterface(String className) throws ClassNotFoundException, IOException
+		{
+			return ClassFileSerializationChecker.this.isInterface(className);
+		}
+		
+		@Override
+		public boolean isSerializable(String className) throws ClassNotFoundException, IOException
+		{
+			return hasInterface(className, SERIALIZABLE_INTERFACE);
+		}
+		
+		@Override
+		public boolean isIterable(String className) throws ClassNotFoundException, IOException
+		{
+			return hasInterface(className, ITERABLE_INTERFACE);
+		}
+		
+		@Override
+		public boolean isMap(String className) throws ClassNotFoundException, IOException
+		{
+			return hasInterface(className, MAP_INTERFACE);
+		}
+		
+		@Override
+		public List<FieldNode> getFields(String className) throws ClassNotFoundException, IOException
+		{
+			return findFields(classFiles.getRequiredClassNode(className));
+		}
+		
+		@Override
+		public String getFieldName(FieldNode field)
+		{
+			return field.name;
+		}
+		
+		@Override
+		public String getFieldClass(FieldNode field)
+		{
+			Type fieldType = Type.getType(field.desc);
+			/* primitives and arrays */
+			return fieldType.getSort() == Type.OBJECT ? fieldType.getInternalName() : null;
+		}
+		
+		@Override
+		public GenericType getGenericType(FieldNode field)
+		{
+			return GenericType.of(field);
+		}
+		
+		@Override
+		public GenericType getTypeArgument(GenericType type, int parameterIndex)
+		{
+			return type.arguments != null && parameterIndex < type.arguments.size() ? type.arguments.get(parameterIndex) : null;
+		}
+		
+		@Override
+		public boolean hasRawClass(GenericType type)
+		{
+			return type.hasRawClass();
+		}
+		
+		@Override
+		public String getRawClass(GenericType type)
+		{
+			return type.className;
+		}
+	}
+	
+	/*
+	 * type from generic signature of field with the same meaning of its parts as reflection gives:
+	 * arguments are not null only for parameterized type (ParameterizedType),
+	 * raw class exists only for class, parameterized type and array of classes (Class)
+	 */
+	static class GenericType extends SignatureVisitor
+	{
+		/* internal name of class, null for other types */
+		String className;
+		List<GenericType> arguments;
+		GenericType componentType;
+		boolean primitive;
+		boolean wildcard;
+		
+		GenericType()
+		{
+			super(Opcodes.ASM9);
+		}
+		
+		static GenericType of(FieldNode field)
+		{
+			GenericType result = new GenericType();
+			new SignatureReader(field.signature == null ? field.desc : field.signature).acceptType(result);
+			return result;
+		}
+		
+		/*
+		 * false for type variable, wildcard and generic array
+		 */
+		boolean hasRawClass()
+		{
+			if (wildcard)
+			{
+				return false;
+			}
+			return className != null || primitive || componentType != null && componentType.arguments == null && componentType.hasRawClass();
+		}
+		
+		@Override
+		public void visitBaseType(char descriptor)
+		{
+			primitive = true;
+		}
+		
+		@Override
+		public void visitClassType(String name)
+		{
+			className = name;
+		}
+		
+		@Override
+		public void visitInnerClassType(String name)
+		{
+			className = className + "$" + name;
+			arguments = null;
+		}
+		
+		@Override
+		public void visitTypeArgument()
+		{
+			GenericType argument = new GenericType();
+			argument.wildcard = true;
+			addArgument(argument);
+		}
+		
+		@Override
+		public SignatureVisitor visitTypeArgument(char wildcard)
+		{
+			GenericType argument = new GenericType();
+			argument.wildcard = wildcard != INSTANCEOF;
+			return addArgument(argument);
+		}
+		
+		private GenericType addArgument(GenericType argument)
+		{
+			if (arguments == null)
+			{
+				arguments = new ArrayList<>();
+			}
+			arguments.add(argument);
+			return argument;
+		}
+		
+		@Override
+		public SignatureVisitor visitArrayType()
+		{
+			componentType = new GenericType();
+			return componentType;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package name.bychkov.junit5;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+import org.junit.platform.commons.util.StringUtils;
+
+/*
+ * accessible fields, methods and constructors of class, hashed by name and signature
+ * members are found in the same way as ReflectionUtils.findFields, findMethods and findConstructors do
+ */
+class ClassMemberIndex
+{
+	private final Set<String> fieldNames = new HashSet<>();
+	private final Set<String> fieldSignatures = new HashSet<>();
+	private final Set<String> methodNames = new HashSet<>();
+	private final Set<String> methodSignatures = new HashSet<>();
+	private final Set<String> constructorSignatures = new HashSet<>();
+	
+	static ClassMemberIndex of(Class<?> targetClass)
+	{
+		ClassMemberIndex index = new ClassMemberIndex();
+		for (Field field : ReflectionUtils.findFields(targetClass, candidate -> true, HierarchyTraversalMode.TOP_DOWN))
+		{
+			index.addField(field.getName(), field.getType().getCanonicalName());
+		}
+		for (Method method : ReflectionUtils.findMethods(targetClass, candidate -> true))
+		{
+			index.addMethod(method.getName(), method.getReturnType().getCanonicalName(), getCanonicalNames(method.getParameterTypes()));
+		}
+		for (Constructor<?> constructor : ReflectionUtils.findConstructors(targetClass, candidate -> true))
+		{
+			index.addConstructor(getCanonicalNames(constructor.getParameterTypes()));
+		}
+		return index;
+	}
+	
+	/*
+	 * canonical name of anonymous or local class is null
+	 */
+	private static String[] getCanonicalNames(Class<?>[] types)
+	{
+		String[] result = new String[types.length];
+		for (int i = 0; i < types.length; i++)
+		{
+			result[i] = types[i].getCanonicalName();
+		}
+		return result;
+	}
+	
+	void addField(String name, String type)
+	{
+		fieldNames.add(name);
+		if (type != null)
+		{
+			fieldSignatures.add(type + " " + name);
+		}
+	}
+	
+	void addMethod(String name, String returnType, String[] parameters)
+	{
+		methodNames.add(name);
+		String parametersSignature = getParametersSignature(parameters);
+		if (returnType != null)
+		{
+			methodSignatures.add(returnType + " " + name);
+		}
+		if (parametersSignature != null)
+		{
+			methodSignatures.add(name + parametersSignature);
+			if (returnType != null)
+			{
+				methodSignatures.add(returnType + " " + name + parametersSignature);
+			}
+		}
+	}
+	
+	void addConstructor(String[] parameters)
+	{
+		String parametersSignature = getParametersSignature(parameters);
+		if (parametersSignature != null)
+		{
+			constructorSignatures.add(parametersSignature);
+		}
+	}
+	
+	boolean hasField(String name, String type)
+	{
+		return StringUtils.isBlank(type) ? fieldNames.contains(name) : fieldSignatures.contains(type + " " + name);
+	}
+	
+	/*
+	 * blank return type and null parameters match any method with the name
+	 */
+	boolean hasMethod(String name, String returnType, String[] parameters)
+	{
+		String signature = parameters == null ? name : name + getParametersSignature(parameters);
+		return StringUtils.isBlank(returnType)
+				? (parameters == null ? methodNames.contains(name) : methodSignatures.contains(signature))
+				: methodSignatures.contains(returnType + " " + signature);
+	}
+	
+	boolean hasConstructor(String[] parameters)
+	{
+		return constructorSignatures.contains(getParametersSignature(parameters));
+	}
+	
+	/*
+	 * returns null if any of parameter types has no name
+	 */
+	private static String getParametersSignature(String[] parameters)
+	{
+		StringBuilder result = new StringBuilder("(");
+		for (int i = 0; i < parameters.length; i++)
+		{
+			if (parameters[i] == null)
+			{
+				return null;
+			}
+			if (i > 0)
+			{
+				result.append(',');
+			}
+			result.append(parameters[i]);
+		}
+		return result.append(')').toString();
+	}
+}
@@ -0,0 +1,137 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * decoded records of data files, shared by all test classes of JVM (e.g. in reused fork of surefire or in reruns of IDE)
+ * records are cached by URL of file and its version (size and time of last modification), so modified file is decoded again
+ * records are collected on the first full reading of file and held by soft references, so they are released by garbage collector when memory is low
+ */
+final class DataFileCache
+{
+	private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+	
+	/*
+	 * size and time of last modification of file
+	 */
+	static final class Version
+	{
+		final long size;
+		final long lastModified;
+		
+		Version(long size, long lastModified)
+		{
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(size, lastModified);
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (!(obj instanceof Version))
+			{
+				return false;
+			}
+			Version other = (Version) obj;
+			return size == other.size && lastModified == other.lastModified;
+		}
+	}
+	
+	private static class Entry
+	{
+		final Version version;
+		final SoftReference<List<Object>> records;
+		
+		Entry(Version version, List<Object> records)
+		{
+			this.version = version;
+			this.records = new SoftReference<>(records);
+		}
+	}
+	
+	private DataFileCache()
+	{
+	}
+	
+	/*
+	 * null if records of file are not cached or released or file is modified after caching
+	 */
+	static List<Object> get(URL resource, Version version)
+	{
+		if (version == null)
+		{
+			return null;
+		}
+		String key = resource.toExternalForm();
+		Entry entry = ENTRIES.get(key);
+		if (entry == null || !entry.version.equals(version))
+		{
+			return null;
+		}
+		List<Object> records = entry.records.get();
+		if (records == null)
+		{
+			/* records are released, they are collected again on the next reading */
+			ENTRIES.remove(key, entry);
+		}
+		return records;
+	}
+	
+	/*
+	 * records of file with unknown version are not cached
+	 */
+	static void put(URL resource, Version version, List<Object> records)
+	{
+		if (version != null)
+		{
+			ENTRIES.put(resource.toExternalForm(), new Entry(version, records));
+		}
+	}
+	
+	/*
+	 * null if time of modification is unknown
+	 */
+	static Version getVersion(URL resource)
+	{
+		try
+		{
+			Version version;
+			if ("file".equals(resource.getProtocol()))
+			{
+				BasicFileAttributes attributes = Files.readAttributes(Paths.get(resource.toURI()), BasicFileAttributes.class);
+				version = new Version(attributes.size(), attributes.lastModifiedTime().toMillis());
+			}
+			else
+			{
+				URLConnection connection = resource.openConnection();
+				version = new Version(connection.getContentLengthLong(), connection.getLastModified());
+			}
+			return version.lastModified > 0 ? version : null;
+		}
+		catch (IOException | URISyntaxException e)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package name.bychkov.junit5;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.DynamicTest;
+
+/*
+ * executes checks of dynamic tests in worker pool ahead of their reporting by JUnit
+ * checks with the same partition key (e.g. target class) are executed one after another,
+ * checks with different keys are executed concurrently
+ * not more than parallelism * SUBMITTED_PER_THREAD checks are submitted and not reported yet
+ * worker pool is owned by caller, it can be shared by several executions
+ */
+class ParallelChecksExecutor<T> implements Iterator<DynamicTest>
+{
+	private static final int SUBMITTED_PER_THREAD = 16;
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+	
+	private final Iterator<T> items;
+	private final Function<? super T, String> partitionKey;
+	private final Function<? super T, DynamicTest> testProducer;
+	private final int maxSubmitted;
+	private final ExecutorService executor;
+	private final Map<String, CompletableFuture<Void>> partitions = new ConcurrentHashMap<>();
+	private final Deque<DynamicTest> submitted = new ArrayDeque<>();
+	
+	private ParallelChecksExecutor(Iterator<T> items, Function<? super T, String> partitionKey,
+			Function<? super T, DynamicTest> testProducer, ExecutorService executor, int parallelism)
+	{
+		this.items = items;
+		this.partitionKey = partitionKey;
+		this.testProducer = testProducer;
+		this.maxSubmitted = parallelism * SUBMITTED_PER_THREAD;
+		this.executor = executor;
+	}
+	
+	/*
+	 * fixed pool of daemon threads
+	 */
+	static ExecutorService newPool(int parallelism)
+	{
+		String threadNamePrefix = "junit5-extensions-checks-" + POOL_NUMBER.incrementAndGet() + "-";
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(parallelism, runnable ->
+		{
+			Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	/*
+	 * parallelism is count of threads of executor, executor is not shut down by returned stream
+	 */
+	static <T> Stream<DynamicTest> execute(Stream<T> items, Function<? super T, String> partitionKey,
+			Function<? super T, DynamicTest> testProducer, ExecutorService executor, int parallelism)
+	{
+		ParallelChecksExecutor<T> iterator = new ParallelChecksExecutor<>(items.iterator(), partitionKey, testProducer, executor, parallelism);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(items::close);
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		submit();
+		return !submitted.isEmpty();
+	}
+	
+	@Override
+	public DynamicTest next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		return submitted.poll();
+	}
+	
+	private void submit()
+	{
+		while (submitted.size() < maxSubmitted && items.hasNext())
+		{
+			T item = items.next();
+			DynamicTest test = testProducer.apply(item);
+			if (test != null)
+			{
+				submitted.add(submit(partitionKey.apply(item), test));
+			}
+		}
+	}
+	
+	private DynamicTest submit(String key, DynamicTest test)
+	{
+		Runnable check = () ->
+		{
+			try
+			{
+				test.getExecutable().execute();
+			}
+			catch (Throwable e)
+			{
+				throw new CompletionException(e);
+			}
+		};
+		CompletableFuture<Void> previous = key == null ? null : partitions.get(key);
+		CompletableFuture<Void> result = previous == null
+				? CompletableFuture.runAsync(check, executor)
+				: previous.handle((value, e) -> value).thenRunAsync(check, executor);
+		if (key != null)
+		{
+			partitions.put(key, result);
+			result.whenComplete((value, e) -> partitions.remove(key, result));
+		}
+		return DynamicTest.dynamicTest(test.getDisplayName(), test.getTestSourceUri().orElse(null), () ->
+		{
+			try
+			{
+				result.join();
+			}
+			catch (CompletionException e)
+			{
+				throw e.getCause();
+			}
+		});
+	}
+}
@@ -0,0 +1,193 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.objectweb.asm.ClassReader;
+
+/*
+ * passed reflection checks stored in file between runs
+ * key of check is hash of its record and of class files of target class, its superclasses and interfaces,
+ * so check is executed again when annotation or any class of the hierarchy is changed
+ * failed checks are not stored, they are always executed again
+ */
+class ReflectionChecksCache
+{
+	private static final Logger LOG = LoggerFactory.getLogger(ReflectionChecksCache.class);
+	private static final int KEY_TAG = 1;
+	
+	private final Path file;
+	private final ClassLoader classLoader;
+	private final Set<String> previousKeys;
+	/* keys of checks passed in current run, only they are saved */
+	private final Set<String> passedKeys = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger skippedChecks = new AtomicInteger();
+	/* hashes, superclasses and interfaces of class files by internal names, empty if class file is not found */
+	private final Map<String, Optional<ClassFile>> classFiles = new ConcurrentHashMap<>();
+	
+	private static class ClassFile
+	{
+		final byte[] hash;
+		final String superName;
+		final String[] interfaces;
+		
+		ClassFile(byte[] hash, String superName, String[] interfaces)
+		{
+			this.hash = hash;
+			this.superName = superName;
+			this.interfaces = interfaces;
+		}
+	}
+	
+	private ReflectionChecksCache(Path file, ClassLoader classLoader, Set<String> previousKeys)
+	{
+		this.file = file;
+		this.classLoader = classLoader;
+		this.previousKeys = previousKeys;
+	}
+	
+	/*
+	 * absent or unreadable file means empty cache
+	 */
+	static ReflectionChecksCache load(Path file, ClassLoader classLoader)
+	{
+		Set<String> keys = new HashSet<>();
+		if (Files.isRegularFile(file))
+		{
+			try
+			{
+				BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+				while (reader.hasNextRecord())
+				{
+					if (reader.nextRecord() == KEY_TAG)
+					{
+						keys.add(reader.readString());
+					}
+				}
+			}
+			catch (IOException e)
+			{
+				LOG.info(e, () -> String.format("Error has acquired while file %s reading, checks are executed again: %s", file, e.getMessage()));
+				keys.clear();
+			}
+		}
+		return new ReflectionChecksCache(file, classLoader, keys);
+	}
+	
+	/*
+	 * null if class file of target class or of its superclass or interface is not found or can not be read
+	 */
+	String getKey(Serializable item, String targetClass, String mode)
+	{
+		try
+		{
+			MessageDigest digest = CacheFiles.createDigest();
+			BinaryDataWriter recordWriter = new BinaryDataWriter();
+			CheckObjectCodec.write(recordWriter, item);
+			digest.update(mode.getBytes(StandardCharsets.UTF_8));
+			digest.update(recordWriter.toByteArray());
+			
+			Set<String> visited = new HashSet<>();
+			Deque<String> names = new ArrayDeque<>(Collections.singleton(targetClass.replace('.', '/')));
+			while (!names.isEmpty())
+			{
+				String name = names.poll();
+				if (!visited.add(name))
+				{
+					continue;
+				}
+				Optional<ClassFile> classFile = getClassFile(name);
+				if (!classFile.isPresent())
+				{
+					return null;
+				}
+				digest.update(name.getBytes(StandardCharsets.UTF_8));
+				digest.update(classFile.get().hash);
+				if (classFile.get().superName != null)
+				{
+					names.add(classFile.get().superName);
+				}
+				Collections.addAll(names, classFile.get().interfaces);
+			}
+			return CacheFiles.toHex(digest.digest());
+		}
+		catch (IOException e)
+		{
+			LOG.info(e, () -> String.format("Error has acquired while class file of %s reading, check is executed: %s", targetClass, e.getMessage()));
+			return null;
+		}
+	}
+	
+	boolean isPassed(String key)
+	{
+		if (previousKeys.contains(key))
+		{
+			passedKeys.add(key);
+			skippedChecks.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+	
+	void addPassed(String key)
+	{
+		passedKeys.add(key);
+	}
+	
+	void save()
+	{
+		try
+		{
+			BinaryDataWriter writer = new BinaryDataWriter();
+			for (String key : passedKeys)
+			{
+				writer.beginRecord(KEY_TAG);
+				writer.writeString(key);
+				writer.endRecord();
+			}
+			CacheFiles.writeFile(file, writer);
+			LOG.info(() -> String.format("Checks passed in previous run are skipped: %d, passed checks are saved to %s: %d",
+					skippedChecks.get(), file, passedKeys.size()));
+		}
+		catch (IOException e)
+		{
+			LOG.warn(e, () -> String.format("Error has acquired while file %s writing: %s", file, e.getMessage()));
+		}
+	}
+	
+	private Optional<ClassFile> getClassFile(String internalName) throws IOException
+	{
+		Optional<ClassFile> result = classFiles.get(internalName);
+		if (result == null)
+		{
+			byte[] bytes = CacheFiles.readClassFile(classLoader, internalName);
+			if (bytes == null)
+			{
+				result = Optional.empty();
+			}
+			else
+			{
+				ClassReader reader = new ClassReader(bytes);
+				result = Optional.of(new ClassFile(CacheFiles.createDigest().digest(bytes), reader.getSuperName(), reader.getInterfaces()));
+			}
+			classFiles.putIfAbsent(internalName, result);
+		}
+		return result;
+	}
+}
@@ -1,29 +1,42 @@
 package name.bychkov.junit5;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
-import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
-import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.opentest4j.AssertionFailedError;
 
 public class ReflectionTests extends AbstractTests
 {
+	/**
+	 * Configuration parameter to choose how target classes are inspected:
+	 * {@value #REFLECTION_MODE} (default) loads them, {@value #BYTECODE_MODE} reads their class files without loading.
+	 */
+	public static final String MODE_PARAMETER = "name.bychkov.junit5.reflections.mode";
+	public static final String REFLECTION_MODE = "reflection";
+	public static final String BYTECODE_MODE = "bytecode";
+	/**
+	 * Configuration parameter with path of file (e.g. target/reflections-cache.dat) to store passed checks between runs.
+	 * Check is executed again only if its annotation or class file of target class, its superclass or interface is changed.
+	 * Checks are not stored if parameter is absent.
+	 */
+	public static final String CACHE_PARAMETER = "name.bychkov.junit5.reflections.cache";
+	
+	private static final Logger LOG = LoggerFactory.getLogger(ReflectionTests.class);
+	
 	private static final BiFunction<Throwable, CheckAnnotationProcessor.CheckConstructorObject, AssertionFailedError> constructorExceptionProducer = (e, constructorObject) ->
 			createAssertionFailedError(constructorObject.message, e, "Annotation @%s on %s warns: Class %s has no accessible constructor %s ",
 			CheckConstructor.class.getSimpleName(), constructorObject.annotatedElement, constructorObject.targetClass,
@@ -45,42 +58,113 @@ public class ReflectionTests extends AbstractTests
 			methodObject.targetClass, Optional.ofNullable(methodObject.returnType).map(o -> o + " ").orElse(""),
 			methodObject.value, methodObject.parameters == null ? "" : "(" + String.join(", ", methodObject.parameters) + ")");
 	
+	/* each target class is loaded and scanned once */
+	private final Map<String, ClassMemberIndex> memberIndexes = new ConcurrentHashMap<>();
+	
+	/* not null in bytecode mode */
+	private ClassFileMemberIndexer classFileIndexer;
+	
+	/* not null if cache of passed checks is configured */
+	private ReflectionChecksCache checksCache;
+	
 	@TestFactory
-	public Collection<DynamicTest> testClassMembers()
+	public Stream<DynamicTest> testClassMembers()
 	{
-		Collection<DynamicTest> tests = new ArrayList<>();
-		Collection<Serializable> annotationClasses = readFile( CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION);
-		
-		for (Serializable item : annotationClasses)
+		String mode = getConfigurationParameter(MODE_PARAMETER).map(String::trim).orElse(REFLECTION_MODE);
+		if (BYTECODE_MODE.equalsIgnoreCase(mode))
 		{
-			DynamicTest test = null;
-			if (item instanceof CheckAnnotationProcessor.CheckConstructorObject)
-			{
-				CheckAnnotationProcessor.CheckConstructorObject constructorObject = (CheckAnnotationProcessor.CheckConstructorObject) item;
-				test = getDynamicConstructorTest(constructorObject);
-			}
-			else if (item instanceof CheckAnnotationProcessor.CheckFieldObject)
-			{
-				CheckAnnotationProcessor.CheckFieldObject fieldObject = (CheckAnnotationProcessor.CheckFieldObject) item;
-				test = getDynamicFieldTest(fieldObject);
-			}
-			else if (item instanceof CheckAnnotationProcessor.CheckFieldsObject)
-			{
-				CheckAnnotationProcessor.CheckFieldsObject fieldsObject = (CheckAnnotationProcessor.CheckFieldsObject) item;
-				test = getDynamicFieldsTest(fieldsObject);
-			}
-			else if (item instanceof CheckAnnotationProcessor.CheckMethodObject)
+			classFileIndexer = new ClassFileMemberIndexer(getClass().getClassLoader());
+		}
+		else if (!REFLECTION_MODE.equalsIgnoreCase(mode))
+		{
+			LOG.warn(() -> String.format("Unknown value '%s' of parameter %s, mode '%s' is used", mode, MODE_PARAMETER, REFLECTION_MODE));
+		}
+		Optional<String> cacheFile = getConfigurationParameter(CACHE_PARAMETER).map(String::trim).filter(value -> !value.isEmpty());
+		if (!cacheFile.isPresent())
+		{
+			return execute(streamFile(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION), ReflectionTests::getTargetClass, this::getDynamicTest);
+		}
+		checksCache = ReflectionChecksCache.load(Paths.get(cacheFile.get()), getClass().getClassLoader());
+		return execute(streamFile(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION), ReflectionTests::getTargetClass, this::getDynamicTest)
+				.onClose(checksCache::save);
+	}
+	
+	private static String getTargetClass(Serializable item)
+	{
+		if (item instanceof CheckAnnotationProcessor.CheckConstructorObject)
+		{
+			return ((CheckAnnotationProcessor.CheckConstructorObject) item).targetClass;
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckFieldObject)
+		{
+			return ((CheckAnnotationProcessor.CheckFieldObject) item).targetClass;
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckFieldsObject)
+		{
+			return ((CheckAnnotationProcessor.CheckFieldsObject) item).targetClass;
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckMethodObject)
+		{
+			return ((CheckAnnotationProcessor.CheckMethodObject) item).targetClass;
+		}
+		return null;
+	}
+	
+	private DynamicTest getDynamicTest(Serializable item)
+	{
+		DynamicTest test = null;
+		if (item instanceof CheckAnnotationProcessor.CheckConstructorObject)
+		{
+			CheckAnnotationProcessor.CheckConstructorObject constructorObject = (CheckAnnotationProcessor.CheckConstructorObject) item;
+			test = getDynamicConstructorTest(constructorObject);
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckFieldObject)
+		{
+			CheckAnnotationProcessor.CheckFieldObject fieldObject = (CheckAnnotationProcessor.CheckFieldObject) item;
+			test = getDynamicFieldTest(fieldObject);
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckFieldsObject)
+		{
+			CheckAnnotationProcessor.CheckFieldsObject fieldsObject = (CheckAnnotationProcessor.CheckFieldsObject) item;
+			test = getDynamicFieldsTest(fieldsObject);
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckMethodObject)
+		{
+			CheckAnnotationProcessor.CheckMethodObject methodObject = (CheckAnnotationProcessor.CheckMethodObject) item;
+			test = getDynamicMethodTest(methodObject);
+		}
+		return test == null || checksCache == null ? test : getCachedTest(test, item);
+	}
+	
+	/*
+	 * check passed in previous run is skipped, if its record and class files of target class hierarchy are not changed
+	 */
+	private DynamicTest getCachedTest(DynamicTest test, Serializable item)
+	{
+		return DynamicTest.dynamicTest(test.getDisplayName(), test.getTestSourceUri().orElse(null), () ->
+		{
+			String key = checksCache.getKey(item, getTargetClass(item), classFileIndexer != null ? BYTECODE_MODE : REFLECTION_MODE);
+			if (key != null && checksCache.isPassed(key))
 			{
-				CheckAnnotationProcessor.CheckMethodObject methodObject = (CheckAnnotationProcessor.CheckMethodObject) item;
-				test = getDynamicMethodTest(methodObject);
+				return;
 			}
-			if (test != null)
+			test.getExecutable().execute();
+			if (key != null)
 			{
-				tests.add(test);
+				checksCache.addPassed(key);
 			}
+		});
+	}
+	
+	private ClassMemberIndex getMemberIndex(String className) throws ClassNotFoundException, IOException
+	{
+		ClassMemberIndex index = memberIndexes.get(className);
+		if (index == null)
+		{
+			index = classFileIndexer != null ? classFileIndexer.index(className) : ClassMemberIndex.of(Class.forName(className));
+			memberIndexes.putIfAbsent(className, index);
 		}
-		
-		return tests;
+		return index;
 	}
 	
 	private DynamicTest getDynamicFieldTest(CheckAnnotationProcessor.CheckFieldObject fieldObject)
@@ -89,13 +173,8 @@ public class ReflectionTests extends AbstractTests
 		{
 			try
 			{
-				Class<?> targetClass = Class.forName(fieldObject.targetClass);
-				
-				Predicate<Field> predicate = candidate -> Objects.equals(fieldObject.value, candidate.getName());
-				predicate = predicate.and(candidate -> StringUtils.isBlank(fieldObject.type) || Objects.equals(fieldObject.type, candidate.getType().getCanonicalName()));
-				
-				List<Field> fields = ReflectionUtils.findFields(targetClass, predicate, HierarchyTraversalMode.TOP_DOWN);
-				if (fields.isEmpty())
+				ClassMemberIndex index = getMemberIndex(fieldObject.targetClass);
+				if (!index.hasField(fieldObject.value, fieldObject.type))
 				{
 					throw fieldExceptionProducer.apply(null, fieldObject);
 				}
@@ -129,14 +208,12 @@ public class ReflectionTests extends AbstractTests
 		{
 			try
 			{
-				Class<?> targetClass = Class.forName(fieldsObject.targetClass);
+				ClassMemberIndex index = getMemberIndex(fieldsObject.targetClass);
 				
 				List<String> failureFields = new ArrayList<>();
 				for (String field : fieldsObject.values)
 				{
-					Predicate<Field> predicate = candidate -> Objects.equals(field, candidate.getName());
-					List<Field> fields = ReflectionUtils.findFields(targetClass, predicate, HierarchyTraversalMode.TOP_DOWN);
-					if (fields.isEmpty())
+					if (!index.hasField(field, null))
 					{
 						failureFields.add(field);
 					}
@@ -160,10 +237,8 @@ public class ReflectionTests extends AbstractTests
 		{
 			try
 			{
-				Class<?> targetClass = Class.forName(constructorObject.targetClass);
-				Predicate<Constructor<?>> predicate = candidate -> areParametersEquals(constructorObject.parameters, candidate.getParameterTypes());
-				List<Constructor<?>> constructors = ReflectionUtils.findConstructors(targetClass, predicate);
-				if (constructors.isEmpty())
+				ClassMemberIndex index = getMemberIndex(constructorObject.targetClass);
+				if (!index.hasConstructor(constructorObject.parameters))
 				{
 					throw constructorExceptionProducer.apply(null, constructorObject);
 				}
@@ -175,37 +250,14 @@ public class ReflectionTests extends AbstractTests
 		});
 	}
 	
-	private boolean areParametersEquals(String[] annotationParametersClassNames, Class<?>[] candidateParameterTypes)
-	{
-		if (annotationParametersClassNames.length != candidateParameterTypes.length)
-		{
-			return false;
-		}
-		for (int i = 0; i < candidateParameterTypes.length; i++)
-		{
-			Class<?> candidateParameterType = candidateParameterTypes[i];
-			if (!Objects.equals(annotationParametersClassNames[i], candidateParameterType.getCanonicalName()))
-			{
-				return false;
-			}
-		}
-		return true;
-	}
-	
 	private DynamicTest getDynamicMethodTest(CheckAnnotationProcessor.CheckMethodObject methodObject)
 	{
 		return DynamicTest.dynamicTest("testMethod", () ->
 		{
 			try
 			{
-				Class<?> targetClass = Class.forName(methodObject.targetClass);
-				
-				Predicate<Method> predicate = candidate -> Objects.equals(methodObject.value, candidate.getName());
-				predicate = predicate.and(candidate -> StringUtils.isBlank(methodObject.returnType) || Objects.equals(methodObject.returnType, candidate.getReturnType().getCanonicalName()));
-				predicate = predicate.and(candidate -> methodObject.parameters == null || areParametersEquals(methodObject.parameters, candidate.getParameterTypes()));
-				
-				List<Method> methods = ReflectionUtils.findMethods(targetClass, predicate);
-				if (methods.isEmpty())
+				ClassMemberIndex index = getMemberIndex(methodObject.targetClass);
+				if (!index.hasMethod(methodObject.value, methodObject.returnType, methodObject.parameters))
 				{
 					throw methodExceptionProducer.apply(null, methodObject);
 				}
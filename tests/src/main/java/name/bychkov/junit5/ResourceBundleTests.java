@@ -3,7 +3,6 @@ package name.bychkov.junit5;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,36 +39,47 @@ public class ResourceBundleTests extends AbstractTests
 			Optional.ofNullable(keysObject.failureValues).map(Arrays::asList).map(List::stream).orElseGet(Stream::empty).collect(Collectors.joining(", ")));
 	
 	@TestFactory
-	public Collection<DynamicTest> testResourceBundles()
+	public Stream<DynamicTest> testResourceBundles()
 	{
-		Collection<DynamicTest> tests = new ArrayList<>();
-		Collection<Serializable> annotationClasses = readFile(CheckAnnotationProcessor.RESOURCE_BUNDLES_DATA_FILE_LOCATION);
-		
-		for (Serializable item : annotationClasses)
+		return execute(streamFile(CheckAnnotationProcessor.RESOURCE_BUNDLES_DATA_FILE_LOCATION), ResourceBundleTests::getBaseName, this::getDynamicTest);
+	}
+	
+	private static String getBaseName(Serializable item)
+	{
+		if (item instanceof CheckAnnotationProcessor.CheckKeyObject)
 		{
-			DynamicTest test = null;
-			if (item instanceof CheckAnnotationProcessor.CheckKeyObject)
-			{
-				CheckAnnotationProcessor.CheckKeyObject keyObject = (CheckAnnotationProcessor.CheckKeyObject) item;
-				test = getDynamicKeyTest(keyObject);
-			}
-			else if (item instanceof CheckAnnotationProcessor.CheckKeysObject)
-			{
-				CheckAnnotationProcessor.CheckKeysObject keysObject = (CheckAnnotationProcessor.CheckKeysObject) item;
-				test = getDynamicKeysTest(keysObject);
-			}
-			else if (item instanceof CheckAnnotationProcessor.CheckResourceBundleObject)
-			{
-				CheckAnnotationProcessor.CheckResourceBundleObject resourceBundleObject = (CheckAnnotationProcessor.CheckResourceBundleObject) item;
-				test = getDynamicResourceBundleTest(resourceBundleObject);
-			}
-			if (test != null)
-			{
-				tests.add(test);
-			}
+			return ((CheckAnnotationProcessor.CheckKeyObject) item).baseName;
 		}
-		
-		return tests;
+		else if (item instanceof CheckAnnotationProcessor.CheckKeysObject)
+		{
+			return ((CheckAnnotationProcessor.CheckKeysObject) item).baseName;
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckResourceBundleObject)
+		{
+			return ((CheckAnnotationProcessor.CheckResourceBundleObject) item).baseName;
+		}
+		return null;
+	}
+	
+	private DynamicTest getDynamicTest(Serializable item)
+	{
+		DynamicTest test = null;
+		if (item instanceof CheckAnnotationProcessor.CheckKeyObject)
+		{
+			CheckAnnotationProcessor.CheckKeyObject keyObject = (CheckAnnotationProcessor.CheckKeyObject) item;
+			test = getDynamicKeyTest(keyObject);
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckKeysObject)
+		{
+			CheckAnnotationProcessor.CheckKeysObject keysObject = (CheckAnnotationProcessor.CheckKeysObject) item;
+			test = getDynamicKeysTest(keysObject);
+		}
+		else if (item instanceof CheckAnnotationProcessor.CheckResourceBundleObject)
+		{
+			CheckAnnotationProcessor.CheckResourceBundleObject resourceBundleObject = (CheckAnnotationProcessor.CheckResourceBundleObject) item;
+			test = getDynamicResourceBundleTest(resourceBundleObject);
+		}
+		return test;
 	}
 	
 	private DynamicTest getDynamicKeyTest(CheckAnnotationProcessor.CheckKeyObject keyObject)
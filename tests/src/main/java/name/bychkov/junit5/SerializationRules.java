@@ -0,0 +1,226 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/*
+ * verdict about serializability of class, the same for loaded classes (SerializationTest) and for class files (ClassFileSerializationChecker):
+ * enum is serializable, other class must implement Serializable and all its non-static and non-transient fields must be serializable,
+ * fields of interface types are not checked, except generic arguments of Iterable and Map
+ * classes, fields and generic types are described by type model
+ */
+final class SerializationRules<C, F, T>
+{
+	private static final Logger LOG = LoggerFactory.getLogger(SerializationRules.class);
+	
+	/*
+	 * classes (C), fields (F) and generic types (T) of reflection or of class files
+	 */
+	interface TypeModel<C, F, T>
+	{
+		/* internal name of class, key of verdict in cache */
+		String getClassName(C klass);
+		
+		String getCanonicalName(C klass) throws ClassNotFoundException, IOException;
+		
+		boolean isEnum(C klass) throws ClassNotFoundException, IOException;
+		
+		boolean isInterface(C klass) throws ClassNotFoundException, IOException;
+		
+		boolean isSerializable(C klass) throws ClassNotFoundException, IOException;
+		
+		boolean isIterable(C klass) throws ClassNotFoundException, IOException;
+		
+		boolean isMap(C klass) throws ClassNotFoundException, IOException;
+		
+		/* non-static and non-transient fields of class and its superclasses */
+		List<F> getFields(C klass) throws ClassNotFoundException, IOException;
+		
+		String getFieldName(F field);
+		
+		/* null for primitives and arrays, they are serializable */
+		C getFieldClass(F field);
+		
+		T getGenericType(F field);
+		
+		/* null if type is not parameterized or has no such argument */
+		T getTypeArgument(T type, int parameterIndex);
+		
+		/* false for type variable, wildcard and generic array */
+		boolean hasRawClass(T type);
+		
+		/* null for primitive arrays and arrays of classes, they are serializable */
+		C getRawClass(T type);
+	}
+	
+	/*
+	 * state of one check, checks can be executed in parallel
+	 * classes being checked are stored with their depth to prevent circular checks
+	 */
+	private class Analysis
+	{
+		final Map<C, Integer> checking = new HashMap<>();
+		/* the lowest depth of class skipped as being checked */
+		int skippedDepth = Integer.MAX_VALUE;
+	}
+	
+	private final TypeModel<C, F, T> model;
+	/* null if verdicts are not stored between runs */
+	private final SerializationVerdictCache verdictCache;
+	
+	/* messages about problems of completely checked classes, empty if class is serializable */
+	private final Map<C, List<String>> verdicts = new ConcurrentHashMap<>();
+	
+	SerializationRules(TypeModel<C, F, T> model, SerializationVerdictCache verdictCache)
+	{
+		this.model = model;
+		this.verdictCache = verdictCache;
+	}
+	
+	List<String> isClassSerializable(C klass) throws ClassNotFoundException, IOException
+	{
+		return isClassSerializable(klass, new Analysis());
+	}
+	
+	/*
+	 * verdict of class is cached if it does not depend on classes being checked by callers
+	 */
+	private List<String> isClassSerializable(C klass, Analysis analysis) throws ClassNotFoundException, IOException
+	{
+		List<String> verdict = verdicts.get(klass);
+		if (verdict != null)
+		{
+			return verdict;
+		}
+		if (verdictCache != null && (verdict = verdictCache.getVerdict(model.getClassName(klass))) != null)
+		{
+			verdicts.put(klass, verdict);
+			return verdict;
+		}
+		Integer checkingDepth = analysis.checking.get(klass);
+		if (checkingDepth != null)
+		{
+			analysis.skippedDepth = Math.min(analysis.skippedDepth, checkingDepth);
+			return Collections.emptyList();
+		}
+		int depth = analysis.checking.size();
+		int callerSkippedDepth = analysis.skippedDepth;
+		analysis.checking.put(klass, depth);
+		analysis.skippedDepth = Integer.MAX_VALUE;
+		try
+		{
+			verdict = Collections.unmodifiableList(checkClassSerializable(klass, analysis));
+			if (analysis.skippedDepth >= depth)
+			{
+				verdicts.put(klass, verdict);
+				if (verdictCache != null)
+				{
+					verdictCache.putVerdict(model.getClassName(klass), verdict);
+				}
+			}
+			return verdict;
+		}
+		finally
+		{
+			analysis.checking.remove(klass);
+			analysis.skippedDepth = Math.min(callerSkippedDepth, analysis.skippedDepth);
+		}
+	}
+	
+	private List<String> checkClassSerializable(C klass, Analysis analysis) throws ClassNotFoundException, IOException
+	{
+		if (model.isEnum(klass))
+		{
+			return Collections.emptyList();
+		}
+		if (!model.isSerializable(klass))
+		{
+			return Arrays.asList(model.getCanonicalName(klass) + " -> Not implements " + Serializable.class.getCanonicalName());
+		}
+		return areAllFieldsSerializable(klass, analysis);
+	}
+	
+	/*
+	 * check all fields of klass that they are serializable
+	 */
+	private List<String> areAllFieldsSerializable(C klass, Analysis analysis) throws ClassNotFoundException, IOException
+	{
+		String canonicalName = model.getCanonicalName(klass);
+		List<String> messages = new ArrayList<>();
+		for (F field : model.getFields(klass))
+		{
+			C fieldClass = model.getFieldClass(field);
+			if (fieldClass == null)
+			{
+				continue;
+			}
+			if (model.isInterface(fieldClass))
+			{
+				processInterface(fieldClass, model.getGenericType(field), messages, canonicalName, field, analysis);
+			}
+			else
+			{
+				List<String> itemMessages = isClassSerializable(fieldClass, analysis);
+				itemMessages.forEach(itemMessage -> messages.add(canonicalName + " -> " + model.getFieldName(field) + ":" + itemMessage));
+			}
+		}
+		return messages;
+	}
+	
+	/*
+	 * implementation of interface is unknown, only generic arguments of collections and maps are checked
+	 */
+	private void processInterface(C interfaceClass, T genericType, List<String> messages, String canonicalName, F field, Analysis analysis)
+			throws ClassNotFoundException, IOException
+	{
+		if (!model.isSerializable(interfaceClass))
+		{
+			String interfaceName = model.getCanonicalName(interfaceClass);
+			LOG.warn(() -> canonicalName + " -> " + model.getFieldName(field) + " is defined with interface type " + interfaceName + " and can contain unserializable implementation class");
+		}
+		if (model.isIterable(interfaceClass))
+		{
+			processGenericArgument(genericType, 0, messages, canonicalName, field, analysis);
+		}
+		if (model.isMap(interfaceClass))
+		{
+			processGenericArgument(genericType, 0, messages, canonicalName, field, analysis);
+			processGenericArgument(genericType, 1, messages, canonicalName, field, analysis);
+		}
+	}
+	
+	private void processGenericArgument(T genericType, int parameterIndex, List<String> messages, String canonicalName, F field, Analysis analysis)
+			throws ClassNotFoundException, IOException
+	{
+		T genericArgumentType = model.getTypeArgument(genericType, parameterIndex);
+		if (genericArgumentType == null || !model.hasRawClass(genericArgumentType))
+		{
+			LOG.warn(() -> canonicalName + " -> " + model.getFieldName(field) + " has undefined generic type and can contain unserializable data");
+			return;
+		}
+		C genericArgumentClass = model.getRawClass(genericArgumentType);
+		if (genericArgumentClass == null)
+		{
+			return;
+		}
+		if (model.isInterface(genericArgumentClass))
+		{
+			processInterface(genericArgumentClass, genericArgumentType, messages, canonicalName, field, analysis);
+		}
+		else
+		{
+			List<String> itemMessages = isClassSerializable(genericArgumentClass, analysis);
+			itemMessages.forEach(itemMessage -> messages.add(canonicalName + " -> " + model.getFieldName(field) + ":" + itemMessage));
+		}
+	}
+}
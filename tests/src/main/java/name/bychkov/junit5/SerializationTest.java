@@ -1,20 +1,18 @@
 package name.bychkov.junit5;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -26,12 +24,25 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.support.ModifierSupport;
 import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
 import org.opentest4j.AssertionFailedError;
 
 public class SerializationTest extends AbstractTests
 {
+	/**
+	 * Configuration parameter to choose how classes of checked packages are found and inspected:
+	 * {@value ReflectionTests#REFLECTION_MODE} (default) loads them, {@value ReflectionTests#BYTECODE_MODE} reads their class files without loading.
+	 */
+	public static final String MODE_PARAMETER = "name.bychkov.junit5.serializable.mode";
+	/**
+	 * Configuration parameter with path of file (e.g. target/serializable-cache.dat) to store verdicts of checked classes between runs.
+	 * Class is checked again only if class file of the class or of its dependency (superclass, interface, type of field) is changed.
+	 * Verdicts are not stored if parameter is absent.
+	 */
+	public static final String CACHE_PARAMETER = "name.bychkov.junit5.serializable.cache";
+	
 	private static final Logger LOG = LoggerFactory.getLogger(SerializationTest.class);
 	
 	private static final BiFunction<Throwable, CheckSerializableObject, AssertionFailedError> serializableExceptionProducer = (e, serializableObject) ->
@@ -40,16 +51,44 @@ public class SerializationTest extends AbstractTests
 			Optional.ofNullable(serializableObject.failures).map(List::stream).orElseGet(Stream::empty)
 				.map(item -> "\t" + item).collect(Collectors.joining(System.lineSeparator())));
 	
-	/* prevent circular checks */
-	private Set<Class<?>> checking = new HashSet<>();
+	/* rules with reflection type model, replaced by rules with cache of verdicts if it is configured */
+	private SerializationRules<Class<?>, Field, Type> rules = new SerializationRules<>(new ReflectionTypeModel(), null);
+	
+	/* not null in bytecode mode */
+	private ClassFileSerializationChecker classFileChecker;
+	
+	/* not null if cache of verdicts is configured */
+	private SerializationVerdictCache verdictCache;
 	
 	@TestFactory
-	public Collection<DynamicTest> testSerialization()
+	public Stream<DynamicTest> testSerialization()
+	{
+		String mode = getConfigurationParameter(MODE_PARAMETER).map(String::trim).orElse(ReflectionTests.REFLECTION_MODE);
+		boolean bytecodeMode = ReflectionTests.BYTECODE_MODE.equalsIgnoreCase(mode);
+		if (!bytecodeMode && !ReflectionTests.REFLECTION_MODE.equalsIgnoreCase(mode))
+		{
+			LOG.warn(() -> String.format("Unknown value '%s' of parameter %s, mode '%s' is used", mode, MODE_PARAMETER, ReflectionTests.REFLECTION_MODE));
+		}
+		Optional<String> cacheFile = getConfigurationParameter(CACHE_PARAMETER).map(String::trim).filter(value -> !value.isEmpty());
+		if (cacheFile.isPresent())
+		{
+			verdictCache = SerializationVerdictCache.load(Paths.get(cacheFile.get()), getClass().getClassLoader(),
+					bytecodeMode ? ReflectionTests.BYTECODE_MODE : ReflectionTests.REFLECTION_MODE);
+			rules = new SerializationRules<>(new ReflectionTypeModel(), verdictCache);
+		}
+		if (bytecodeMode)
+		{
+			classFileChecker = new ClassFileSerializationChecker(getClass().getClassLoader(), verdictCache);
+		}
+		Stream<CheckAnnotationProcessor.CheckSerializableObject> items = streamFile(CheckAnnotationProcessor.SERIALIZABLE_DATA_FILE_LOCATION)
+				.filter(CheckAnnotationProcessor.CheckSerializableObject.class::isInstance).map(CheckAnnotationProcessor.CheckSerializableObject.class::cast);
+		Stream<DynamicTest> tests = execute(items, SerializationTest::getPackageName, this::getDynamicTest);
+		return verdictCache == null ? tests : tests.onClose(verdictCache::save);
+	}
+	
+	private static String getPackageName(CheckAnnotationProcessor.CheckSerializableObject serializableObject)
 	{
-		Collection<Serializable> annotationClasses = readFile(CheckAnnotationProcessor.SERIALIZABLE_DATA_FILE_LOCATION);
-		Collection<DynamicTest> tests = annotationClasses.stream().filter(CheckAnnotationProcessor.CheckSerializableObject.class::isInstance)
-				.map(CheckAnnotationProcessor.CheckSerializableObject.class::cast).map(this::getDynamicTest).collect(Collectors.toList());
-		return tests;
+		return Objects.toString(serializableObject.targetPackage, serializableObject.annotatedElement);
 	}
 	
 	static class CheckSerializableObject extends CheckAnnotationProcessor.CheckSerializableObject
@@ -72,20 +111,26 @@ public class SerializationTest extends AbstractTests
 	{
 		return DynamicTest.dynamicTest("testSerializable", () ->
 		{
-			String packageName = Objects.toString(serializableObject.targetPackage, serializableObject.annotatedElement);
-			Predicate<Class<?>> predicate = candidate -> serializableObject.excludes == null || !Arrays.asList(serializableObject.excludes).contains(candidate.getCanonicalName());
-			List<Class<?>> classes = ReflectionUtils.findAllClassesInPackage(packageName, ClassFilter.of(predicate));
+			String packageName = getPackageName(serializableObject);
+			Predicate<String> namePredicate = canonicalName -> serializableObject.excludes == null || !Arrays.asList(serializableObject.excludes).contains(canonicalName);
 			
 			List<String> failures = new ArrayList<>();
-			for (Class<?> klass : classes)
+			if (classFileChecker != null)
+			{
+				failures.addAll(classFileChecker.checkPackage(packageName, namePredicate));
+			}
+			else
 			{
-				checking.add(klass);
-				List<String> messages = isClassSerializable(klass);
-				if (!messages.isEmpty())
+				Predicate<Class<?>> predicate = candidate -> namePredicate.test(candidate.getCanonicalName());
+				List<Class<?>> classes = ReflectionUtils.findAllClassesInPackage(packageName, ClassFilter.of(predicate));
+				for (Class<?> klass : classes)
 				{
-					failures.addAll(messages);
+					List<String> messages = isClassSerializable(klass);
+					if (!messages.isEmpty())
+					{
+						failures.addAll(messages);
+					}
 				}
-				checking.remove(klass);
 			}
 			if (!failures.isEmpty())
 			{
@@ -95,17 +140,17 @@ public class SerializationTest extends AbstractTests
 		});
 	}
 	
-	private List<String> isClassSerializable(Class<?> klass)
+	List<String> isClassSerializable(Class<?> klass)
 	{
-		if (klass.isEnum() || klass.isPrimitive())
+		try
 		{
-			return Collections.emptyList();
+			return rules.isClassSerializable(klass);
 		}
-		if (!hasInterface(klass, Serializable.class))
+		catch (ClassNotFoundException | IOException e)
 		{
-			return Arrays.asList(klass.getCanonicalName() + " -> Not implements " + Serializable.class.getCanonicalName());
+			/* classes are already loaded */
+			throw ExceptionUtils.throwAsUncheckedException(e);
 		}
-		return areAllFieldsSerializable(klass);
 	}
 	
 	/*
@@ -113,113 +158,126 @@ public class SerializationTest extends AbstractTests
 	 */
 	static boolean hasInterface(Class<?> klass, Class<?> interfaceClass)
 	{
-		Class<?> superclass = klass;
-		while (superclass != null)
-		{
-			if (Objects.equals(superclass, interfaceClass))
-			{
-				return true;
-			}
-			Set<Class<?>> allInterfaces = new HashSet<>();
-			allInterfaces.addAll(Arrays.asList(superclass.getInterfaces()));
-			int previousInterfacesCount = 0;
-			int currentInterfacesCount = allInterfaces.size();
-			while (currentInterfacesCount != previousInterfacesCount)
-			{
-				if (allInterfaces.contains(interfaceClass))
-				{
-					return true;
-				}
-				previousInterfacesCount = currentInterfacesCount;
-				Set<Class<?>> itemInterfaces = new HashSet<>();
-				itemInterfaces.addAll(allInterfaces);
-				for (Class<?> item : allInterfaces)
-				{
-					itemInterfaces.addAll(Arrays.asList(item.getInterfaces()));
-				}
-				allInterfaces = itemInterfaces;
-				currentInterfacesCount = allInterfaces.size();
-			}
-			if (allInterfaces.contains(interfaceClass))
-			{
-				return true;
-			}
-			superclass = superclass.getSuperclass();
-		}
-		return false;
+		return interfaceClass.isAssignableFrom(klass);
 	}
 	
-	private Predicate<Field> fieldPredicate = field -> !ModifierSupport.isStatic(field) && !Modifier.isTransient(field.getModifiers());
-	
 	/*
-	 * check all fields of klass that they are serializable
+	 * results of hasInterface for interfaces checked for each field, reused during the whole run
 	 */
-	private List<String> areAllFieldsSerializable(Class<?> klass)
+	private static final ClassValue<Boolean> IS_SERIALIZABLE = new InterfaceOracle(Serializable.class);
+	private static final ClassValue<Boolean> IS_ITERABLE = new InterfaceOracle(Iterable.class);
+	private static final ClassValue<Boolean> IS_MAP = new InterfaceOracle(Map.class);
+	
+	private static class InterfaceOracle extends ClassValue<Boolean>
 	{
-		List<Field> fields = ReflectionUtils.findFields(klass, fieldPredicate, HierarchyTraversalMode.TOP_DOWN);
-		List<String> messages = new ArrayList<>();
-		for (Field field : fields)
+		private final Class<?> interfaceClass;
+		
+		InterfaceOracle(Class<?> interfaceClass)
 		{
-			Class<?> fieldClass = field.getType();
-			if (checking.contains(fieldClass))
-			{
-				return Collections.emptyList();
-			}
-			checking.add(fieldClass);
-			if (fieldClass.isInterface())
-			{
-				if (!hasInterface(fieldClass, Serializable.class))
-				{
-					LOG.warn(() -> klass.getCanonicalName() + " -> " + field.getName() + " is defined with interface type " + fieldClass.getCanonicalName() + " and can contain unserializable implementation class");
-				}
-				if (hasInterface(fieldClass, Iterable.class))
-				{
-					processGenericArgument(field.getGenericType(), 0, messages, klass, field);
-				}
-				if (hasInterface(fieldClass, Map.class))
-				{
-					processGenericArgument(field.getGenericType(), 0, messages, klass, field);
-					processGenericArgument(field.getGenericType(), 1, messages, klass, field);
-				}
-			}
-			else
-			{
-				List<String> itemMessages = isClassSerializable(fieldClass);
-				itemMessages.forEach(itemMessage -> messages.add(klass.getCanonicalName() + " -> " + field.getName() + ":" + itemMessage));
-			}
-			checking.remove(fieldClass);
+			this.interfaceClass = interfaceClass;
+		}
+		
+		@Override
+		protected Boolean computeValue(Class<?> klass)
+		{
+			return hasInterface(klass, interfaceClass);
 		}
-		return messages;
 	}
 	
-	private void processGenericArgument(Type genericType, int parameterIndex, List<String> messages, Class<?> klass, Field field)
+	private static final Predicate<Field> FIELD_PREDICATE = field -> !ModifierSupport.isStatic(field) && !Modifier.isTransient(field.getModifiers());
+	
+	/*
+	 * loaded classes, their fields and generic types of fields
+	 */
+	private static class ReflectionTypeModel implements SerializationRules.TypeModel<Class<?>, Field, Type>
 	{
-		Type genericArgumentType = getGenericArgumentType(genericType, parameterIndex);
-		Class<?> genericArgumentClass = toClass(genericArgumentType);
-		List<String> itemMessages = null;
-		if (genericArgumentClass == null)
+		@Override
+		public String getClassName(Class<?> klass)
 		{
-			LOG.warn(() -> klass.getCanonicalName() + " -> " + field.getName() + " has undefined generic type and can contain unserializable data");
+			return klass.getName().replace('.', '/');
 		}
-		else if (genericArgumentClass.isInterface())
+		
+		@Override
+		public String getCanonicalName(Class<?> klass)
 		{
-			if (!hasInterface(genericArgumentClass, Serializable.class))
-			{
-				LOG.warn(() -> klass.getCanonicalName() + " -> " + field.getName() + " is defined with interface type " + genericType.getTypeName() + " and can contain unserializable implementation class");
-			}
-			if (hasInterface(genericArgumentClass, Iterable.class))
-			{
-				processGenericArgument(genericArgumentType, 0, messages, klass, field);
-			}
-			if (hasInterface(genericArgumentClass, Map.class))
-			{
-				processGenericArgument(genericArgumentType, 0, messages, klass, field);
-				processGenericArgument(genericArgumentType, 1, messages, klass, field);
-			}
+			return klass.getCanonicalName();
+		}
+		
+		@Override
+		public boolean isEnum(Class<?> klass)
+		{
+			return klass.isEnum();
+		}
+		
+		@Override
+		public boolean isInterface(Class<?> klass)
+		{
+			return klass.isInterface();
+		}
+		
+		@Override
+		public boolean isSerializable(Class<?> klass)
+		{
+			return IS_SERIALIZABLE.get(klass);
+		}
+		
+		@Override
+		public boolean isIterable(Class<?> klass)
+		{
+			return IS_ITERABLE.get(klass);
+		}
+		
+		@Override
+		public boolean isMap(Class<?> klass)
+		{
+			return IS_MAP.get(klass);
+		}
+		
+		@Override
+		public List<Field> getFields(Class<?> klass)
+		{
+			return ReflectionUtils.findFields(klass, FIELD_PREDICATE, HierarchyTraversalMode.TOP_DOWN);
+		}
+		
+		@Override
+		public String getFieldName(Field field)
+		{
+			return field.getName();
+		}
+		
+		@Override
+		public Class<?> getFieldClass(Field field)
+		{
+			return toCheckedClass(field.getType());
+		}
+		
+		@Override
+		public Type getGenericType(Field field)
+		{
+			return field.getGenericType();
+		}
+		
+		@Override
+		public Type getTypeArgument(Type type, int parameterIndex)
+		{
+			return getGenericArgumentType(type, parameterIndex);
+		}
+		
+		@Override
+		public boolean hasRawClass(Type type)
+		{
+			return toClass(type) != null;
+		}
+		
+		@Override
+		public Class<?> getRawClass(Type type)
+		{
+			return toCheckedClass(toClass(type));
 		}
-		else if ((itemMessages = isClassSerializable(genericArgumentClass)) != null && !itemMessages.isEmpty())
+		
+		private static Class<?> toCheckedClass(Class<?> klass)
 		{
-			itemMessages.forEach(itemMessage -> messages.add(klass.getCanonicalName() + " -> " + field.getName() + ":" + itemMessage));
+			return klass.isPrimitive() || klass.isArray() ? null : klass;
 		}
 	}
 	
@@ -0,0 +1,337 @@
+package name.bychkov.junit5;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
+
+/*
+ * verdicts of classes checked for serializability stored in file between runs
+ * each class is stored with hash of its class file and its dependencies: superclass, interfaces and classes of types
+ * and generic arguments of its non-static and non-transient fields
+ * stored verdict is used only if class files of the class and of all its direct and indirect dependencies are not changed,
+ * so only changed classes and classes depending on them are checked again
+ * dependencies are read from class files, so classes are not loaded by the cache in both modes
+ */
+class SerializationVerdictCache
+{
+	private static final Logger LOG = LoggerFactory.getLogger(SerializationVerdictCache.class);
+	private static final int MODE_TAG = 1;
+	private static final int CLASS_TAG = 2;
+	
+	private final Path file;
+	private final ClassLoader classLoader;
+	private final String mode;
+	/* classes of previous run by internal names */
+	private final Map<String, Entry> previousEntries;
+	/* classes checked or used in current run, only they are saved */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	/* current class files, empty if class file is not found */
+	private final Map<String, Optional<Entry>> classFiles = new ConcurrentHashMap<>();
+	/* true if class files of class and of all its dependencies are the same as in previous run */
+	private final Map<String, Boolean> unchangedClasses = new ConcurrentHashMap<>();
+	
+	private static class Entry
+	{
+		final String hash;
+		final String[] dependencies;
+		/* null if class is only dependency of checked classes */
+		final String[] verdict;
+		
+		Entry(String hash, String[] dependencies, String[] verdict)
+		{
+			this.hash = hash;
+			this.dependencies = dependencies;
+			this.verdict = verdict;
+		}
+	}
+	
+	/*
+	 * collects internal names of classes of type and of its generic arguments
+	 */
+	private static class TypeCollector extends SignatureVisitor
+	{
+		private final Set<String> classNames;
+		private String className;
+		
+		TypeCollector(Set<String> classNames)
+		{
+			super(Opcodes.ASM9);
+			this.classNames = classNames;
+		}
+		
+		@Override
+		public void visitClassType(String name)
+		{
+			className = name;
+			classNames.add(className);
+		}
+		
+		@Override
+		public void visitInnerClassType(String name)
+		{
+			className = className + "$" + name;
+			classNames.add(className);
+		}
+		
+		@Override
+		public SignatureVisitor visitTypeArgument(char wildcard)
+		{
+			return new TypeCollector(classNames);
+		}
+		
+		@Override
+		public SignatureVisitor visitArrayType()
+		{
+			return new TypeCollector(classNames);
+		}
+	}
+	
+	private SerializationVerdictCache(Path file, ClassLoader classLoader, String mode, Map<String, Entry> previousEntries)
+	{
+		this.file = file;
+		this.classLoader = classLoader;
+		this.mode = mode;
+		this.previousEntries = previousEntries;
+	}
+	
+	/*
+	 * absent or unreadable file or file written in other mode means empty cache
+	 */
+	static SerializationVerdictCache load(Path file, ClassLoader classLoader, String mode)
+	{
+		Map<String, Entry> entries = new HashMap<>();
+		if (Files.isRegularFile(file))
+		{
+			try
+			{
+				BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+				String fileMode = null;
+				while (reader.hasNextRecord())
+				{
+					int tag = reader.nextRecord();
+					if (tag == MODE_TAG)
+					{
+						fileMode = reader.readString();
+					}
+					else if (tag == CLASS_TAG)
+					{
+						entries.put(reader.readString(), new Entry(reader.readString(), reader.readStrings(), reader.readStrings()));
+					}
+				}
+				if (!mode.equals(fileMode))
+				{
+					entries.clear();
+				}
+			}
+			catch (IOException e)
+			{
+				LOG.info(e, () -> String.format("Error has acquired while file %s reading, classes are checked again: %s", file, e.getMessage()));
+				entries.clear();
+			}
+		}
+		return new SerializationVerdictCache(file, classLoader, mode, entries);
+	}
+	
+	/*
+	 * null if class is not checked in previous run or class file of the class or of any its dependency is changed
+	 */
+	List<String> getVerdict(String className)
+	{
+		Entry entry = previousEntries.get(className);
+		if (entry == null || entry.verdict == null || !isUnchanged(className))
+		{
+			return null;
+		}
+		keep(className);
+		return Collections.unmodifiableList(Arrays.asList(entry.verdict));
+	}
+	
+	/*
+	 * verdict is stored with current class files of the class and of all its dependencies
+	 * class without class file (e.g. array) is not stored
+	 */
+	void putVerdict(String className, List<String> verdict)
+	{
+		Optional<Entry> classFile = getClassFile(className);
+		if (!classFile.isPresent())
+		{
+			return;
+		}
+		putEntry(className, new Entry(classFile.get().hash, classFile.get().dependencies, verdict.toArray(new String[0])));
+		Deque<String> names = new ArrayDeque<>(Arrays.asList(classFile.get().dependencies));
+		while (!names.isEmpty())
+		{
+			String name = names.poll();
+			Optional<Entry> dependency = getClassFile(name);
+			if (dependency.isPresent() && putEntry(name, dependency.get()))
+			{
+				Collections.addAll(names, dependency.get().dependencies);
+			}
+		}
+	}
+	
+	void save()
+	{
+		try
+		{
+			BinaryDataWriter writer = new BinaryDataWriter();
+			writer.beginRecord(MODE_TAG);
+			writer.writeString(mode);
+			writer.endRecord();
+			for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet())
+			{
+				writer.beginRecord(CLASS_TAG);
+				writer.writeString(entry.getKey());
+				writer.writeString(entry.getValue().hash);
+				writer.writeStrings(entry.getValue().dependencies);
+				writer.writeStrings(entry.getValue().verdict);
+				writer.endRecord();
+			}
+			CacheFiles.writeFile(file, writer);
+		}
+		catch (IOException e)
+		{
+			LOG.warn(e, () -> String.format("Error has acquired while file %s writing: %s", file, e.getMessage()));
+		}
+	}
+	
+	/*
+	 * success is remembered for all classes of the closure, failure - only for the class itself,
+	 * because its dependencies can be unchanged
+	 */
+	private boolean isUnchanged(String className)
+	{
+		Boolean result = unchangedClasses.get(className);
+		if (result != null)
+		{
+			return result;
+		}
+		Set<String> visited = new HashSet<>();
+		Deque<String> names = new ArrayDeque<>(Collections.singleton(className));
+		while (!names.isEmpty())
+		{
+			String name = names.poll();
+			if (!visited.add(name) || Boolean.TRUE.equals(unchangedClasses.get(name)))
+			{
+				continue;
+			}
+			Entry previous = previousEntries.get(name);
+			Optional<Entry> current = getClassFile(name);
+			if (previous == null || !current.isPresent() || !current.get().hash.equals(previous.hash))
+			{
+				unchangedClasses.put(className, false);
+				return false;
+			}
+			Collections.addAll(names, previous.dependencies);
+		}
+		visited.forEach(name -> unchangedClasses.put(name, true));
+		return true;
+	}
+	
+	/*
+	 * unchanged class and its dependencies are stored again
+	 */
+	private void keep(String className)
+	{
+		Deque<String> names = new ArrayDeque<>(Collections.singleton(className));
+		while (!names.isEmpty())
+		{
+			String name = names.poll();
+			Entry previous = previousEntries.get(name);
+			if (previous != null && putEntry(name, previous))
+			{
+				Collections.addAll(names, previous.dependencies);
+			}
+		}
+	}
+	
+	/*
+	 * returns false if class is already stored, its entry is replaced only to add verdict
+	 */
+	private boolean putEntry(String className, Entry entry)
+	{
+		Entry existing = entries.putIfAbsent(className, entry);
+		if (existing == null)
+		{
+			return true;
+		}
+		if (existing.verdict == null && entry.verdict != null)
+		{
+			entries.replace(className, existing, entry);
+		}
+		return false;
+	}
+	
+	private Optional<Entry> getClassFile(String className)
+	{
+		Optional<Entry> result = classFiles.get(className);
+		if (result == null)
+		{
+			result = readClassFile(className);
+			classFiles.putIfAbsent(className, result);
+		}
+		return result;
+	}
+	
+	private Optional<Entry> readClassFile(String className)
+	{
+		try
+		{
+			byte[] bytes = CacheFiles.readClassFile(classLoader, className);
+			if (bytes == null)
+			{
+				return Optional.empty();
+			}
+			ClassReader reader = new ClassReader(bytes);
+			Set<String> dependencies = new LinkedHashSet<>();
+			if (reader.getSuperName() != null)
+			{
+				dependencies.add(reader.getSuperName());
+			}
+			Collections.addAll(dependencies, reader.getInterfaces());
+			reader.accept(new ClassVisitor(Opcodes.ASM9)
+			{
+				@Override
+				public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value)
+				{
+					if ((access & (Opcodes.ACC_STATIC | Opcodes.ACC_TRANSIENT)) == 0)
+					{
+						new SignatureReader(signature == null ? descriptor : signature).acceptType(new TypeCollector(dependencies));
+					}
+					return null;
+				}
+			}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+			dependencies.remove(className);
+			String hash = CacheFiles.toHex(CacheFiles.createDigest().digest(bytes));
+			return Optional.of(new Entry(hash, dependencies.toArray(new String[0]), null));
+		}
+		catch (IOException e)
+		{
+			LOG.info(e, () -> String.format("Error has acquired while class file of %s reading, verdict is not stored: %s", className, e.getMessage()));
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,234 @@
+package name.bychkov.junit5.params;
+
+import static java.lang.String.format;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+import name.bychkov.junit5.params.provider.BinaryFileSource;
+
+/*
+ * files are mapped with FileChannel.map when their records are requested, records are read-only views of mapped bytes
+ * files bigger than 2GB are mapped by chunks of whole records
+ * resources in jar files can not be mapped, they are read into heap buffer
+ */
+class BinaryFileArgumentsProvider implements ParameterizedConstructorObjectAcceptor
+{
+	private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+	
+	private String[] files;
+	private String[] resources;
+	private int recordSize;
+	private int headerSize;
+	private String decoder;
+	
+	@Override
+	public void accept(ParameterizedConstructorObject object)
+	{
+		this.files = object.binaryFileSourceFiles;
+		this.resources = object.binaryFileSourceResources;
+		this.recordSize = object.binaryFileSourceRecordSize;
+		this.headerSize = object.binaryFileSourceHeaderSize;
+		this.decoder = object.binaryFileSourceDecoder;
+	}
+	
+	@Override
+	public Stream<? extends Arguments> provideArguments(ExtensionContext context)
+	{
+		Preconditions.condition(recordSize > 0, () -> format("Record size of @%s must be positive", BinaryFileSource.class.getSimpleName()));
+		Preconditions.condition(headerSize >= 0, () -> format("Header size of @%s must not be negative", BinaryFileSource.class.getSimpleName()));
+		Preconditions.condition(resources.length + files.length > 0, "Resources or files must not be empty");
+		Function<ByteBuffer, Arguments> recordDecoder = getDecoder();
+		Class<?> testClass = context.getRequiredTestClass();
+		
+		Stream<ByteBuffer> records = Stream.empty();
+		for (String resource : resources)
+		{
+			records = Stream.concat(records, records(() -> openResource(testClass, resource)));
+		}
+		for (String file : files)
+		{
+			records = Stream.concat(records, records(() -> new MappedRecords(Paths.get(file))));
+		}
+		return records.map(recordDecoder);
+	}
+	
+	private Function<ByteBuffer, Arguments> getDecoder()
+	{
+		if (decoder == null)
+		{
+			return Arguments::of;
+		}
+		Class<?> decoderClass = ReflectionUtils.tryToLoadClass(decoder).getOrThrow(
+				cause -> new JUnitException(format("Could not load class [%s]", decoder), cause));
+		return ((BinaryFileSource.Decoder) ReflectionUtils.newInstance(decoderClass))::decode;
+	}
+	
+	/*
+	 * records are opened lazily, when stream is consumed
+	 */
+	private Stream<ByteBuffer> records(Supplier<Iterator<ByteBuffer>> source)
+	{
+		return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(source.get(), Spliterator.ORDERED | Spliterator.NONNULL),
+				Spliterator.ORDERED | Spliterator.NONNULL, false);
+	}
+	
+	private Iterator<ByteBuffer> openResource(Class<?> testClass, String resource)
+	{
+		URL url = Preconditions.notNull(testClass.getResource(resource), () -> format("Classpath resource [%s] does not exist", resource));
+		if ("file".equals(url.getProtocol()))
+		{
+			try
+			{
+				return new MappedRecords(Paths.get(url.toURI()));
+			}
+			catch (URISyntaxException e)
+			{
+				throw new JUnitException(format("Classpath resource [%s] could not be read", resource), e);
+			}
+		}
+		try (InputStream inputStream = url.openStream())
+		{
+			ByteBuffer content = ByteBuffer.wrap(readAll(inputStream)).asReadOnlyBuffer();
+			checkSize(content.capacity(), resource);
+			content.position(headerSize);
+			return new Records(content);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static byte[] readAll(InputStream inputStream) throws IOException
+	{
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8 * 0x400];
+		for (int count = inputStream.read(buffer); count >= 0; count = inputStream.read(buffer))
+		{
+			result.write(buffer, 0, count);
+		}
+		return result.toByteArray();
+	}
+	
+	private void checkSize(long size, String source)
+	{
+		Preconditions.condition(size >= headerSize && (size - headerSize) % recordSize == 0,
+				() -> format("Size of [%s] (%d bytes) without header (%d bytes) is not a multiple of record size (%d bytes)", source, size, headerSize, recordSize));
+	}
+	
+	/*
+	 * views of records of buffer from its position
+	 */
+	private class Records implements Iterator<ByteBuffer>
+	{
+		private final ByteBuffer buffer;
+		
+		Records(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return buffer.remaining() >= recordSize;
+		}
+		
+		@Override
+		public ByteBuffer next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			ByteBuffer record = buffer.slice();
+			record.limit(recordSize);
+			buffer.position(buffer.position() + recordSize);
+			return record;
+		}
+	}
+	
+	/*
+	 * records of file mapped by chunks, the next chunk is mapped when records of previous one are read
+	 */
+	private class MappedRecords implements Iterator<ByteBuffer>
+	{
+		private final Path path;
+		private final long size;
+		private final long chunkSize;
+		private long position;
+		private Records chunk;
+		
+		MappedRecords(Path path)
+		{
+			this.path = path;
+			try
+			{
+				this.size = Files.size(path);
+			}
+			catch (IOException e)
+			{
+				throw new JUnitException(format("File [%s] could not be read", path), e);
+			}
+			checkSize(size, path.toString());
+			this.chunkSize = MAX_CHUNK_SIZE / recordSize * recordSize;
+			this.position = headerSize;
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			if ((chunk == null || !chunk.hasNext()) && position < size)
+			{
+				long length = Math.min(chunkSize, size - position);
+				try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+				{
+					/* mapping remains valid after channel is closed */
+					chunk = new Records(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+				}
+				catch (IOException e)
+				{
+					throw new UncheckedIOException(e);
+				}
+				position += length;
+			}
+			return chunk != null && chunk.hasNext();
+		}
+		
+		@Override
+		public ByteBuffer next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return chunk.next();
+		}
+	}
+}
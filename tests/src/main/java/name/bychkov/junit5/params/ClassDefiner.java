@@ -0,0 +1,125 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.platform.commons.util.ReflectionUtils.invokeMethod;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/*
+ * defines generated class in runtime package of its superclass (neighbor)
+ * the best way available in current JVM is used:
+ * - hidden classes (Java 15+) are not registered in class loader and can be unloaded when they are not used anymore
+ * - Lookup.defineClass (Java 9+) does not need access to internals of java.lang.ClassLoader
+ * - ClassLoader.defineClass is called through reflection in Java 8
+ * API of newer Java versions is called through method handles, so the code is compiled for Java 8
+ */
+abstract class ClassDefiner
+{
+	private static final Logger LOG = LoggerFactory.getLogger(ClassDefiner.class);
+	
+	private static final ClassDefiner INSTANCE = create();
+	
+	static ClassDefiner getInstance()
+	{
+		return INSTANCE;
+	}
+	
+	abstract Class<?> define(Class<?> neighbor, byte[] byteCode) throws Throwable;
+	
+	private static ClassDefiner create()
+	{
+		try
+		{
+			return new HiddenClassDefiner();
+		}
+		catch (ReflectiveOperationException e)
+		{
+			LOG.debug(() -> "Hidden classes are not supported: " + e);
+		}
+		try
+		{
+			return new LookupClassDefiner();
+		}
+		catch (ReflectiveOperationException e)
+		{
+			LOG.debug(() -> "Lookup.defineClass is not supported: " + e);
+		}
+		return new ReflectiveClassDefiner();
+	}
+	
+	static class ReflectiveClassDefiner extends ClassDefiner
+	{
+		private Method defineClass;
+		
+		@Override
+		synchronized Class<?> define(Class<?> neighbor, byte[] byteCode) throws NoSuchMethodException
+		{
+			if (defineClass == null)
+			{
+				defineClass = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class);
+				defineClass.setAccessible(true);
+			}
+			return (Class<?>) invokeMethod(defineClass, neighbor.getClassLoader(), null, byteCode, 0, byteCode.length);
+		}
+	}
+	
+	static class LookupClassDefiner extends ClassDefiner
+	{
+		private final MethodHandle privateLookupIn;
+		private final MethodHandle defineClass;
+		
+		LookupClassDefiner() throws ReflectiveOperationException
+		{
+			Lookup lookup = MethodHandles.lookup();
+			privateLookupIn = lookup.findStatic(MethodHandles.class, "privateLookupIn", MethodType.methodType(Lookup.class, Class.class, Lookup.class));
+			defineClass = lookup.findVirtual(Lookup.class, "defineClass", MethodType.methodType(Class.class, byte[].class));
+		}
+		
+		Lookup getLookup(Class<?> neighbor) throws Throwable
+		{
+			return (Lookup) privateLookupIn.invoke(neighbor, MethodHandles.lookup());
+		}
+		
+		@Override
+		Class<?> define(Class<?> neighbor, byte[] byteCode) throws Throwable
+		{
+			return (Class<?>) defineClass.invoke(getLookup(neighbor), byteCode);
+		}
+	}
+	
+	static class HiddenClassDefiner extends LookupClassDefiner
+	{
+		private final MethodHandle defineHiddenClass;
+		/* empty array of Lookup.ClassOption, hidden classes are not kept by their class loader */
+		private final Object options;
+		
+		HiddenClassDefiner() throws ReflectiveOperationException
+		{
+			options = Array.newInstance(Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption"), 0);
+			defineHiddenClass = MethodHandles.lookup().findVirtual(Lookup.class, "defineHiddenClass",
+					MethodType.methodType(Lookup.class, byte[].class, boolean.class, options.getClass())).asFixedArity();
+		}
+		
+		@Override
+		Class<?> define(Class<?> neighbor, byte[] byteCode) throws Throwable
+		{
+			Lookup lookup = getLookup(neighbor);
+			try
+			{
+				return ((Lookup) defineHiddenClass.invoke(lookup, byteCode, true, options)).lookupClass();
+			}
+			catch (IllegalAccessException e)
+			{
+				/* lookup in other module (e.g. neighbor is loaded by other class loader) has no full privilege access */
+				return super.define(neighbor, byteCode);
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package name.bychkov.junit5.params;
+
+import static java.lang.String.format;
+
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.util.Preconditions;
+
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+import name.bychkov.junit5.params.provider.CsvSource;
+
+class CsvArgumentsProvider implements ParameterizedConstructorObjectAcceptor
+{
+	private String[] values;
+	private char quoteCharacter;
+	private char delimiter;
+	private String emptyValue;
+	private String[] nullValues;
+	private boolean ignoreLeadingAndTrailingWhitespace;
+	
+	@Override
+	public void accept(ParameterizedConstructorObject object)
+	{
+		this.values = object.csvSourceValue;
+		this.quoteCharacter = object.csvSourceQuoteCharacter.charAt(0);
+		this.delimiter = object.csvSourceDelimiter.charAt(0);
+		this.emptyValue = object.csvSourceEmptyValue;
+		this.nullValues = object.csvSourceNullValues;
+		this.ignoreLeadingAndTrailingWhitespace = object.csvSourceIgnoreWhitespace;
+	}
+	
+	@Override
+	public Stream<? extends Arguments> provideArguments(ExtensionContext context)
+	{
+		Constructor<?> constructor = (Constructor<?>) context.getElement().get();
+		return Arrays.stream(values).map(this::parse).map(row -> toArguments(row, constructor));
+	}
+	
+	private String[] parse(String value)
+	{
+		try (CsvParser parser = new CsvParser(new StringReader(value), delimiter, quoteCharacter, emptyValue, nullValues,
+				ignoreLeadingAndTrailingWhitespace))
+		{
+			Preconditions.condition(parser.hasNext(), () -> format("Row [%s] of @%s has no values", value, CsvSource.class.getSimpleName()));
+			String[] row = parser.next();
+			Preconditions.condition(!parser.hasNext(), () -> format("Row [%s] of @%s has several lines", value, CsvSource.class.getSimpleName()));
+			return row;
+		}
+	}
+	
+	/*
+	 * columns of row are converted to types of constructor parameters by CsvValueConverter
+	 */
+	static Arguments toArguments(String[] row, Constructor<?> constructor)
+	{
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		Preconditions.condition(row.length == parameterTypes.length, () -> format("Row %s has %d columns, but constructor %s has %d parameters",
+				Arrays.toString(row), row.length, constructor.toGenericString(), parameterTypes.length));
+		CsvValueConverter converter = CsvValueConverter.getInstance();
+		Object[] arguments = new Object[row.length];
+		for (int i = 0; i < row.length; i++)
+		{
+			arguments[i] = converter.convert(row[i], parameterTypes[i]);
+		}
+		return Arguments.of(arguments);
+	}
+}
@@ -0,0 +1,104 @@
+package name.bychkov.junit5.params;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+
+/*
+ * sources are opened one after another when their rows are requested and closed when they are read,
+ * rows are parsed on demand, so files of any size are not loaded into memory
+ */
+class CsvFileArgumentsProvider implements ParameterizedConstructorObjectAcceptor
+{
+	private String[] resources;
+	private String[] files;
+	private String encoding;
+	private char quoteCharacter;
+	private char delimiter;
+	private int numLinesToSkip;
+	private String emptyValue;
+	private String[] nullValues;
+	private boolean ignoreLeadingAndTrailingWhitespace;
+	
+	@Override
+	public void accept(ParameterizedConstructorObject object)
+	{
+		this.resources = object.csvFileSourceResources;
+		this.files = object.csvFileSourceFiles;
+		this.encoding = object.csvFileSourceEncoding;
+		this.quoteCharacter = object.csvFileSourceQuoteCharacter.charAt(0);
+		this.delimiter = object.csvFileSourceDelimiter.charAt(0);
+		this.numLinesToSkip = object.csvFileSourceNumLinesToSkip;
+		this.emptyValue = object.csvFileSourceEmptyValue;
+		this.nullValues = object.csvFileSourceNullValues;
+		this.ignoreLeadingAndTrailingWhitespace = object.csvFileSourceIgnoreWhitespace;
+	}
+	
+	@Override
+	public Stream<? extends Arguments> provideArguments(ExtensionContext context)
+	{
+		Constructor<?> constructor = (Constructor<?>) context.getElement().get();
+		Preconditions.condition(resources.length + files.length > 0, "Resources or files must not be empty");
+		Charset charset = Charset.forName(encoding);
+		
+		Stream<Arguments> arguments = Stream.empty();
+		for (String resource : resources)
+		{
+			arguments = Stream.concat(arguments, read(() -> Preconditions.notNull(constructor.getDeclaringClass().getResourceAsStream(resource),
+					() -> format("Classpath resource [%s] does not exist", resource)), charset, constructor));
+		}
+		for (String file : files)
+		{
+			arguments = Stream.concat(arguments, read(() ->
+			{
+				try
+				{
+					return Files.newInputStream(Paths.get(file));
+				}
+				catch (IOException e)
+				{
+					throw new JUnitException(format("File [%s] could not be read", file), e);
+				}
+			}, charset, constructor));
+		}
+		return arguments;
+	}
+	
+	private Stream<Arguments> read(Supplier<InputStream> source, Charset charset, Constructor<?> constructor)
+	{
+		AtomicReference<CsvParser> parser = new AtomicReference<>();
+		return StreamSupport.stream(() ->
+		{
+			CsvParser sourceParser = new CsvParser(new InputStreamReader(source.get(), charset), delimiter, quoteCharacter, emptyValue,
+					nullValues, ignoreLeadingAndTrailingWhitespace);
+			parser.set(sourceParser);
+			for (int i = 0; i < numLinesToSkip && sourceParser.hasNext(); i++)
+			{
+				sourceParser.next();
+			}
+			return Spliterators.spliteratorUnknownSize(sourceParser, Spliterator.ORDERED | Spliterator.NONNULL);
+		}, Spliterator.ORDERED | Spliterator.NONNULL, false)
+				.onClose(() -> Optional.ofNullable(parser.get()).ifPresent(CsvParser::close))
+				.map(row -> CsvArgumentsProvider.toArguments(row, constructor));
+	}
+}
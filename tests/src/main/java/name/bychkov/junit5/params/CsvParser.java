@@ -0,0 +1,274 @@
+package name.bychkov.junit5.params;
+
+import static java.lang.String.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.params.provider.CsvParsingException;
+
+/*
+ * streaming parser of CSV rows, characters are read through its own buffer and one StringBuilder is reused for all values,
+ * so input of any size is parsed in constant memory
+ * rows are separated by \n, \r or \r\n, empty lines and lines starting with # are skipped
+ * quoted value can contain delimiters and line breaks, quote character inside it is escaped by doubling
+ * unquoted empty value is null, quoted empty value is emptyValue, values equal to one of nullValues are null
+ * reader is closed when the last row is read
+ */
+final class CsvParser implements Iterator<String[]>, Closeable
+{
+	private static final int BUFFER_SIZE = 8 * 0x400; // 8KB
+	private static final int EOF = -1;
+	private static final String[] EMPTY_ROW = new String[0];
+	
+	private final Reader reader;
+	private final char delimiter;
+	private final char quoteCharacter;
+	private final String emptyValue;
+	private final Set<String> nullValues;
+	private final boolean ignoreLeadingAndTrailingWhitespace;
+	
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int position;
+	private int limit;
+	private final StringBuilder value = new StringBuilder();
+	private final List<String> row = new ArrayList<>();
+	private String[] nextRow;
+	private int line = 1;
+	private boolean closed;
+	
+	CsvParser(Reader reader, char delimiter, char quoteCharacter, String emptyValue, String[] nullValues,
+			boolean ignoreLeadingAndTrailingWhitespace)
+	{
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.quoteCharacter = quoteCharacter;
+		this.emptyValue = emptyValue;
+		this.nullValues = new HashSet<>(Arrays.asList(nullValues));
+		this.ignoreLeadingAndTrailingWhitespace = ignoreLeadingAndTrailingWhitespace;
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		if (nextRow == null && !closed)
+		{
+			try
+			{
+				nextRow = readRow();
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+			if (nextRow == null)
+			{
+				close();
+			}
+		}
+		return nextRow != null;
+	}
+	
+	@Override
+	public String[] next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		String[] result = nextRow;
+		nextRow = null;
+		return result;
+	}
+	
+	@Override
+	public void close()
+	{
+		if (!closed)
+		{
+			closed = true;
+			try
+			{
+				reader.close();
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
+	private String[] readRow() throws IOException
+	{
+		while (true)
+		{
+			int c = peek();
+			if (c == EOF)
+			{
+				return null;
+			}
+			else if (c == '\n' || c == '\r')
+			{
+				skipLineBreak(read());
+			}
+			else if (c == '#')
+			{
+				while (!isLineEnd(c))
+				{
+					c = read();
+				}
+				skipLineBreak(c);
+			}
+			else
+			{
+				break;
+			}
+		}
+		
+		row.clear();
+		int end;
+		do
+		{
+			end = readValue();
+		}
+		while (end == delimiter);
+		skipLineBreak(end);
+		return row.toArray(EMPTY_ROW);
+	}
+	
+	/*
+	 * returns character after the value: delimiter, line break or EOF
+	 */
+	private int readValue() throws IOException
+	{
+		value.setLength(0);
+		int c = read();
+		if (ignoreLeadingAndTrailingWhitespace)
+		{
+			c = skipWhitespace(c);
+		}
+		if (c == quoteCharacter)
+		{
+			int startLine = line;
+			while (true)
+			{
+				c = read();
+				if (c == EOF)
+				{
+					throw new CsvParsingException(format("Quoted value started at line %d is not closed", startLine));
+				}
+				if (c == quoteCharacter)
+				{
+					if (peek() != quoteCharacter)
+					{
+						break;
+					}
+					read();
+				}
+				else if (c == '\n' || c == '\r' && peek() != '\n')
+				{
+					line++;
+				}
+				value.append((char) c);
+			}
+			c = skipWhitespace(read());
+			if (!isValueEnd(c))
+			{
+				throw new CsvParsingException(format("Unexpected character '%c' after quoted value at line %d", (char) c, line));
+			}
+			addValue(value.length() == 0 ? emptyValue : value.toString());
+			return c;
+		}
+		
+		while (!isValueEnd(c))
+		{
+			value.append((char) c);
+			c = read();
+		}
+		int length = value.length();
+		if (ignoreLeadingAndTrailingWhitespace)
+		{
+			while (length > 0 && isWhitespace(value.charAt(length - 1)))
+			{
+				length--;
+			}
+		}
+		addValue(length == 0 ? null : value.substring(0, length));
+		return c;
+	}
+	
+	private void addValue(String item)
+	{
+		row.add(item != null && nullValues.contains(item) ? null : item);
+	}
+	
+	private int read() throws IOException
+	{
+		if (position == limit)
+		{
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0)
+			{
+				limit = 0;
+				return EOF;
+			}
+		}
+		return buffer[position++];
+	}
+	
+	private int peek() throws IOException
+	{
+		int c = read();
+		if (c != EOF)
+		{
+			position--;
+		}
+		return c;
+	}
+	
+	private void skipLineBreak(int c) throws IOException
+	{
+		if (c == '\r' && peek() == '\n')
+		{
+			read();
+		}
+		if (c != EOF)
+		{
+			line++;
+		}
+	}
+	
+	private int skipWhitespace(int c) throws IOException
+	{
+		while (c != EOF && isWhitespace((char) c))
+		{
+			c = read();
+		}
+		return c;
+	}
+	
+	private boolean isWhitespace(char c)
+	{
+		return (c == ' ' || c == '\t') && c != delimiter;
+	}
+	
+	private boolean isLineEnd(int c)
+	{
+		return c == '\n' || c == '\r' || c == EOF;
+	}
+	
+	private boolean isValueEnd(int c)
+	{
+		return c == delimiter || isLineEnd(c);
+	}
+}
@@ -0,0 +1,169 @@
+package name.bychkov.junit5.params;
+
+import static java.lang.String.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/*
+ * implicit conversion of CSV values to types of constructor parameters
+ * DefaultArgumentConverter of junit-jupiter-params is internal API, so it is the only place where it is used:
+ * it is found through reflection and called through method handle, if it is absent or changed, values are converted by this class
+ */
+abstract class CsvValueConverter
+{
+	private static final Logger LOG = LoggerFactory.getLogger(CsvValueConverter.class);
+	
+	private static final CsvValueConverter INSTANCE = create();
+	
+	static CsvValueConverter getInstance()
+	{
+		return INSTANCE;
+	}
+	
+	abstract Object convert(String value, Class<?> targetType);
+	
+	private static CsvValueConverter create()
+	{
+		try
+		{
+			return new JupiterValueConverter();
+		}
+		catch (ReflectiveOperationException | LinkageError | ClassCastException e)
+		{
+			LOG.debug(() -> "DefaultArgumentConverter is not available: " + e);
+		}
+		return new LocalValueConverter();
+	}
+	
+	static class JupiterValueConverter extends CsvValueConverter
+	{
+		private final MethodHandle convert;
+		
+		JupiterValueConverter() throws ReflectiveOperationException
+		{
+			Class<?> converterClass = Class.forName("org.junit.jupiter.params.converter.DefaultArgumentConverter");
+			Object instance = converterClass.getField("INSTANCE").get(null);
+			convert = MethodHandles.publicLookup().findVirtual(converterClass, "convert", MethodType.methodType(Object.class, Object.class, Class.class))
+					.bindTo(instance);
+		}
+		
+		@Override
+		Object convert(String value, Class<?> targetType)
+		{
+			try
+			{
+				return convert.invoke((Object) value, targetType);
+			}
+			catch (Throwable e)
+			{
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+	}
+	
+	/*
+	 * supports primitives and their wrappers, String, enums, Class
+	 * and other types by static factory method valueOf or parse with one String (or CharSequence) parameter or by constructor with String parameter
+	 */
+	static class LocalValueConverter extends CsvValueConverter
+	{
+		private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+		
+		static
+		{
+			WRAPPERS.put(boolean.class, Boolean.class);
+			WRAPPERS.put(byte.class, Byte.class);
+			WRAPPERS.put(char.class, Character.class);
+			WRAPPERS.put(short.class, Short.class);
+			WRAPPERS.put(int.class, Integer.class);
+			WRAPPERS.put(long.class, Long.class);
+			WRAPPERS.put(float.class, Float.class);
+			WRAPPERS.put(double.class, Double.class);
+		}
+		
+		@Override
+		Object convert(String value, Class<?> targetType)
+		{
+			if (value == null)
+			{
+				if (targetType.isPrimitive())
+				{
+					throw new ArgumentConversionException(format("Cannot convert null to primitive value of type %s", targetType.getName()));
+				}
+				return null;
+			}
+			Class<?> type = WRAPPERS.getOrDefault(targetType, targetType);
+			if (type.isInstance(value))
+			{
+				return value;
+			}
+			try
+			{
+				return convertString(value, type);
+			}
+			catch (ArgumentConversionException e)
+			{
+				throw e;
+			}
+			catch (Exception e)
+			{
+				throw new ArgumentConversionException(format("Failed to convert String \"%s\" to type %s", value, targetType.getName()), e);
+			}
+		}
+		
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Object convertString(String value, Class<?> type) throws ReflectiveOperationException
+		{
+			if (type == Boolean.class)
+			{
+				if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value))
+				{
+					throw new IllegalArgumentException("String must be 'true' or 'false' (ignoring case)");
+				}
+				return Boolean.valueOf(value);
+			}
+			if (type == Character.class)
+			{
+				if (value.length() != 1)
+				{
+					throw new IllegalArgumentException("String must have length of 1");
+				}
+				return value.charAt(0);
+			}
+			if (type.isEnum())
+			{
+				return Enum.valueOf((Class<? extends Enum>) type, value);
+			}
+			if (type == Class.class)
+			{
+				return ReflectionUtils.tryToLoadClass(value).getOrThrow(cause -> new ArgumentConversionException(format("Failed to load class %s", value), cause));
+			}
+			for (String name : new String[] { "valueOf", "parse" })
+			{
+				for (Method method : type.getMethods())
+				{
+					if (method.getName().equals(name) && Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 1
+							&& method.getParameterTypes()[0].isAssignableFrom(String.class) && type.isAssignableFrom(method.getReturnType()))
+					{
+						return ReflectionUtils.invokeMethod(method, null, value);
+					}
+				}
+			}
+			Constructor<?> constructor = type.getConstructor(String.class);
+			return constructor.newInstance(value);
+		}
+	}
+}
@@ -32,11 +32,14 @@ class MethodArgumentsProvider implements ParameterizedConstructorObjectAcceptor
 
 	@Override
 	public Stream<Arguments> provideArguments(ExtensionContext context) {
+		// Streams of factory methods are concatenated instead of flatMap(), which in Java 8
+		// reads the whole stream of a factory method into memory when arguments are consumed by iterator.
 		// @formatter:off
 		return Arrays.stream(this.methodNames)
 				.map(factoryMethodName -> getFactoryMethod(context, factoryMethodName))
 				.map(factoryMethod -> ReflectionUtils.invokeMethod(factoryMethod, null))
-				.flatMap(CollectionUtils::toStream)
+				.map(CollectionUtils::toStream)
+				.reduce(Stream.empty(), Stream::concat)
 				.map(MethodArgumentsProvider::toArguments);
 		// @formatter:on
 	}
@@ -17,10 +17,13 @@ import java.lang.annotation.Target;
  * @see name.bychkov.junit5.params.provider.EnumSource
  * @see name.bychkov.junit5.params.provider.EmptySource
  * @see name.bychkov.junit5.params.provider.NullSource
+ * @see name.bychkov.junit5.params.provider.CsvSource
+ * @see name.bychkov.junit5.params.provider.CsvFileSource
+ * @see name.bychkov.junit5.params.provider.BinaryFileSource
  * 
  * */
 @Target(ElementType.CONSTRUCTOR)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Documented
 public @interface ParameterizedConstructor {
 
@@ -37,4 +40,11 @@ public @interface ParameterizedConstructor {
 	String name() default "{default_display_name}";
 
 	boolean autoCloseArguments() default true;
+
+	/**
+	 * Rows of arguments are executed concurrently, tests of one row are executed one after another.
+	 * Count of threads is taken from configuration parameter {@code name.bychkov.junit5.params.parallelism},
+	 * by default it is count of available processors.
+	 */
+	boolean parallel() default false;
 }
@@ -1,16 +1,10 @@
 package name.bychkov.junit5.params;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,9 +25,12 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
-import javax.tools.FileObject;
-import javax.tools.StandardLocation;
+import javax.lang.model.type.DeclaredType;
 
+import name.bychkov.junit5.AggregatedDataFile;
+import name.bychkov.junit5.params.provider.BinaryFileSource;
+import name.bychkov.junit5.params.provider.CsvFileSource;
+import name.bychkov.junit5.params.provider.CsvSource;
 import name.bychkov.junit5.params.provider.EmptySource;
 import name.bychkov.junit5.params.provider.EnumSource;
 import name.bychkov.junit5.params.provider.MethodSource;
@@ -47,42 +44,35 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 	private static final Logger LOG = Logger.getLogger(ParameterizedConstructorAnnotationProcessor.class.getSimpleName());
 	static final String DATA_FILE_LOCATION = "META-INF/maven/name.bychkov/junit5-extensions/parameterized-constructor-data.dat";
 	
+	private final AggregatedDataFile dataFile = new AggregatedDataFile(DATA_FILE_LOCATION);
+	
+	/*
+	 * items are accumulated in all rounds, data file is written once in the last round
+	 */
 	@Override
 	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
 	{
-		if (!isAlreadyProcessed(DATA_FILE_LOCATION))
+		try
 		{
-			try
-			{
-				Set<Serializable> annotationItems = new HashSet<>();
-				processAnnotations(roundEnv, ParameterizedConstructor.class,
-						Arrays.asList(EmptySource.class, EnumSource.class, MethodSource.class, NullSource.class, ValueSource.class),
-						annotationItems);
-				writeFile(DATA_FILE_LOCATION, annotationItems);
-			}
-			catch (Exception e)
-			{
-				LOG.log(Level.SEVERE, e, () -> "Error has acquired while @ParameterizedConstructor annotation processing");
-			}
+			processAnnotations(roundEnv, ParameterizedConstructor.class,
+					Arrays.asList(BinaryFileSource.class, CsvFileSource.class, CsvSource.class, EmptySource.class, EnumSource.class, MethodSource.class, NullSource.class,
+							ValueSource.class),
+					dataFile);
 		}
-		return true;
-	}
-	
-	private boolean isAlreadyProcessed(String filename)
-	{
-		try
+		catch (Exception e)
 		{
-			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", filename);
-			return file.getLastModified() > 0;
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while @ParameterizedConstructor annotation processing");
 		}
-		catch (IOException e)
+		dataFile.addCompiledElements(roundEnv.getRootElements(), processingEnv.getElementUtils());
+		if (roundEnv.processingOver())
 		{
-			return false;
+			writeFile(dataFile);
 		}
+		return true;
 	}
 	
 	private void processAnnotations(RoundEnvironment roundEnv, Class<? extends Annotation> mainAnnotationClass,
-			List<Class<? extends Annotation>> dataSourceAnnotationClasses, Collection<Serializable> annotationItems)
+			List<Class<? extends Annotation>> dataSourceAnnotationClasses, AggregatedDataFile dataFile)
 	{
 		Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(mainAnnotationClass);
 		for (Element element : elements)
@@ -96,14 +86,14 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 					dataSourceAnnotationMirrors.add(annotation);
 				}
 			}
-			processAnnotation(dataSourceAnnotationMirrors, element, annotationItems);
+			processAnnotation(dataSourceAnnotationMirrors, element, dataFile);
 		}
 	}
 	
-	private void processAnnotation(List<AnnotationMirror> dataSourceAnnotations, Element element, Collection<Serializable> annotationItems)
+	private void processAnnotation(List<AnnotationMirror> dataSourceAnnotations, Element element, AggregatedDataFile dataFile)
 	{
 		Serializable object = join(element, dataSourceAnnotations);
-		annotationItems.add(object);
+		dataFile.add(element, object, processingEnv.getElementUtils());
 	}
 	
 	static class ParameterizedConstructorObject implements Serializable
@@ -137,11 +127,47 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 		boolean hasMethodSource;
 		String[] methodSourceValue;
 		
+		boolean hasCsvSource;
+		String[] csvSourceValue;
+		String csvSourceQuoteCharacter;
+		String csvSourceDelimiter;
+		String csvSourceEmptyValue;
+		String[] csvSourceNullValues;
+		boolean csvSourceIgnoreWhitespace;
+		
+		boolean hasCsvFileSource;
+		String[] csvFileSourceResources;
+		String[] csvFileSourceFiles;
+		String csvFileSourceEncoding;
+		String csvFileSourceQuoteCharacter;
+		String csvFileSourceDelimiter;
+		int csvFileSourceNumLinesToSkip;
+		String csvFileSourceEmptyValue;
+		String[] csvFileSourceNullValues;
+		boolean csvFileSourceIgnoreWhitespace;
+		
+		boolean hasBinaryFileSource;
+		String[] binaryFileSourceFiles;
+		String[] binaryFileSourceResources;
+		int binaryFileSourceRecordSize;
+		int binaryFileSourceHeaderSize;
+		String binaryFileSourceDecoder;
+		
+		boolean parallel;
+		boolean autoCloseArguments;
+		
 		@Override
 		public int hashCode()
 		{
 			final int prime = 31;
 			int result = 1;
+			result = prime * result + Arrays.hashCode(binaryFileSourceFiles);
+			result = prime * result + Arrays.hashCode(binaryFileSourceResources);
+			result = prime * result + Arrays.hashCode(csvFileSourceFiles);
+			result = prime * result + Arrays.hashCode(csvFileSourceNullValues);
+			result = prime * result + Arrays.hashCode(csvFileSourceResources);
+			result = prime * result + Arrays.hashCode(csvSourceNullValues);
+			result = prime * result + Arrays.hashCode(csvSourceValue);
 			result = prime * result + Arrays.hashCode(enumSourceNames);
 			result = prime * result + Arrays.hashCode(methodSourceValue);
 			result = prime * result + Arrays.hashCode(parameters);
@@ -155,8 +181,11 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 			result = prime * result + Arrays.hashCode(valueSourceLongs);
 			result = prime * result + Arrays.hashCode(valueSourceShorts);
 			result = prime * result + Arrays.hashCode(valueSourceStrings);
-			result = prime * result + Objects.hash(annotatedElement, enumSourceMode, enumSourceValue,
-					hasEmptySource, hasEnumSource, hasMethodSource, hasNullSource, hasValueSource, targetClass);
+			result = prime * result + Objects.hash(annotatedElement, csvFileSourceDelimiter, csvFileSourceEmptyValue, csvFileSourceEncoding,
+					csvFileSourceIgnoreWhitespace, csvFileSourceNumLinesToSkip, csvFileSourceQuoteCharacter, csvSourceDelimiter,
+					csvSourceEmptyValue, csvSourceIgnoreWhitespace, csvSourceQuoteCharacter, enumSourceMode, enumSourceValue,
+					hasCsvFileSource, hasCsvSource, hasEmptySource, hasEnumSource, hasMethodSource, hasNullSource, hasValueSource,
+					hasBinaryFileSource, binaryFileSourceRecordSize, binaryFileSourceHeaderSize, binaryFileSourceDecoder, parallel, autoCloseArguments, targetClass);
 			return result;
 		}
 		
@@ -170,17 +199,33 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 			if (getClass() != obj.getClass())
 				return false;
 			ParameterizedConstructorObject other = (ParameterizedConstructorObject) obj;
-			return Objects.equals(annotatedElement, other.annotatedElement) && enumSourceMode == other.enumSourceMode
+			return Objects.equals(annotatedElement, other.annotatedElement) && Objects.equals(enumSourceMode, other.enumSourceMode)
 					&& Arrays.equals(enumSourceNames, other.enumSourceNames) && Objects.equals(enumSourceValue, other.enumSourceValue)
 					&& hasEmptySource == other.hasEmptySource && hasEnumSource == other.hasEnumSource
 					&& hasMethodSource == other.hasMethodSource && hasNullSource == other.hasNullSource
-					&& hasValueSource == other.hasValueSource && Arrays.equals(methodSourceValue, other.methodSourceValue)
+					&& hasValueSource == other.hasValueSource && parallel == other.parallel && autoCloseArguments == other.autoCloseArguments && Arrays.equals(methodSourceValue, other.methodSourceValue)
 					&& Arrays.equals(parameters, other.parameters) && Objects.equals(targetClass, other.targetClass)
 					&& Arrays.equals(valueSourceBooleans, other.valueSourceBooleans) && Arrays.equals(valueSourceBytes, other.valueSourceBytes)
 					&& Arrays.equals(valueSourceChars, other.valueSourceChars) && Arrays.equals(valueSourceClasses, other.valueSourceClasses)
 					&& Arrays.equals(valueSourceDoubles, other.valueSourceDoubles) && Arrays.equals(valueSourceFloats, other.valueSourceFloats)
 					&& Arrays.equals(valueSourceInts, other.valueSourceInts) && Arrays.equals(valueSourceLongs, other.valueSourceLongs)
-					&& Arrays.equals(valueSourceShorts, other.valueSourceShorts) && Arrays.equals(valueSourceStrings, other.valueSourceStrings);
+					&& Arrays.equals(valueSourceShorts, other.valueSourceShorts) && Arrays.equals(valueSourceStrings, other.valueSourceStrings)
+					&& hasCsvSource == other.hasCsvSource && Arrays.equals(csvSourceValue, other.csvSourceValue)
+					&& Objects.equals(csvSourceQuoteCharacter, other.csvSourceQuoteCharacter) && Objects.equals(csvSourceDelimiter, other.csvSourceDelimiter)
+					&& Objects.equals(csvSourceEmptyValue, other.csvSourceEmptyValue) && Arrays.equals(csvSourceNullValues, other.csvSourceNullValues)
+					&& csvSourceIgnoreWhitespace == other.csvSourceIgnoreWhitespace
+					&& hasCsvFileSource == other.hasCsvFileSource && Arrays.equals(csvFileSourceResources, other.csvFileSourceResources)
+					&& Arrays.equals(csvFileSourceFiles, other.csvFileSourceFiles) && Objects.equals(csvFileSourceEncoding, other.csvFileSourceEncoding)
+					&& Objects.equals(csvFileSourceQuoteCharacter, other.csvFileSourceQuoteCharacter)
+					&& Objects.equals(csvFileSourceDelimiter, other.csvFileSourceDelimiter)
+					&& csvFileSourceNumLinesToSkip == other.csvFileSourceNumLinesToSkip
+					&& Objects.equals(csvFileSourceEmptyValue, other.csvFileSourceEmptyValue)
+					&& Arrays.equals(csvFileSourceNullValues, other.csvFileSourceNullValues)
+					&& csvFileSourceIgnoreWhitespace == other.csvFileSourceIgnoreWhitespace
+					&& hasBinaryFileSource == other.hasBinaryFileSource && Arrays.equals(binaryFileSourceFiles, other.binaryFileSourceFiles)
+					&& Arrays.equals(binaryFileSourceResources, other.binaryFileSourceResources)
+					&& binaryFileSourceRecordSize == other.binaryFileSourceRecordSize && binaryFileSourceHeaderSize == other.binaryFileSourceHeaderSize
+					&& Objects.equals(binaryFileSourceDecoder, other.binaryFileSourceDecoder);
 		}
 	}
 	
@@ -259,6 +304,52 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 			Map<String, Object> annotationParameters = readAnnotationParameters(methodMirror);
 			object.methodSourceValue = getAnnotationOptionalArrayAttribute(annotationParameters, "value", new String[0]);
 		}
+		/* attributes of CSV annotations have no class values, so they are read from annotation proxies with their defaults */
+		object.hasCsvSource = getAnnotation(dataSourceAnnotations, CsvSource.class) != null;
+		if (object.hasCsvSource)
+		{
+			CsvSource csvSource = element.getAnnotation(CsvSource.class);
+			object.csvSourceValue = csvSource.value();
+			object.csvSourceQuoteCharacter = String.valueOf(csvSource.quoteCharacter());
+			object.csvSourceDelimiter = String.valueOf(csvSource.delimiter());
+			object.csvSourceEmptyValue = csvSource.emptyValue();
+			object.csvSourceNullValues = csvSource.nullValues();
+			object.csvSourceIgnoreWhitespace = csvSource.ignoreLeadingAndTrailingWhitespace();
+		}
+		
+		object.hasCsvFileSource = getAnnotation(dataSourceAnnotations, CsvFileSource.class) != null;
+		if (object.hasCsvFileSource)
+		{
+			CsvFileSource csvFileSource = element.getAnnotation(CsvFileSource.class);
+			object.csvFileSourceResources = csvFileSource.resources();
+			object.csvFileSourceFiles = csvFileSource.files();
+			object.csvFileSourceEncoding = csvFileSource.encoding();
+			object.csvFileSourceQuoteCharacter = String.valueOf(csvFileSource.quoteCharacter());
+			object.csvFileSourceDelimiter = String.valueOf(csvFileSource.delimiter());
+			object.csvFileSourceNumLinesToSkip = csvFileSource.numLinesToSkip();
+			object.csvFileSourceEmptyValue = csvFileSource.emptyValue();
+			object.csvFileSourceNullValues = csvFileSource.nullValues();
+			object.csvFileSourceIgnoreWhitespace = csvFileSource.ignoreLeadingAndTrailingWhitespace();
+		}
+		AnnotationMirror binaryFileMirror = getAnnotation(dataSourceAnnotations, BinaryFileSource.class);
+		object.hasBinaryFileSource = binaryFileMirror != null;
+		if (object.hasBinaryFileSource)
+		{
+			BinaryFileSource binaryFileSource = element.getAnnotation(BinaryFileSource.class);
+			object.binaryFileSourceFiles = binaryFileSource.files();
+			object.binaryFileSourceResources = binaryFileSource.resources();
+			object.binaryFileSourceRecordSize = binaryFileSource.recordSize();
+			object.binaryFileSourceHeaderSize = binaryFileSource.headerSize();
+			/* class value is not available in compile-time, its binary name is read from mirror (default decoder is null) */
+			Object decoder = readAnnotationParameters(binaryFileMirror).get("decoder");
+			object.binaryFileSourceDecoder = decoder == null ? null : processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) decoder).asElement()).toString();
+			if (BinaryFileSource.Decoder.class.getName().equals(object.binaryFileSourceDecoder))
+			{
+				object.binaryFileSourceDecoder = null;
+			}
+		}
+		object.parallel = element.getAnnotation(ParameterizedConstructor.class).parallel();
+		object.autoCloseArguments = element.getAnnotation(ParameterizedConstructor.class).autoCloseArguments();
 		return object;
 	}
 	
@@ -350,33 +441,23 @@ public class ParameterizedConstructorAnnotationProcessor extends AbstractProcess
 		return annotationParameters;
 	}
 	
-	private void writeFile(String filename, Set<Serializable> annotationItems)
+	/*
+	 * file is merged with the file of previous compilation
+	 */
+	private void writeFile(AggregatedDataFile dataFile)
 	{
-		if (annotationItems == null || annotationItems.isEmpty())
-		{
-			return;
-		}
 		try
 		{
-			FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", filename);
-			try (OutputStream writer = fileObject.openOutputStream();
-					ByteArrayOutputStream bos = new ByteArrayOutputStream())
-			{
-				ObjectOutputStream out = null;
-				out = new ObjectOutputStream(bos);
-				out.writeObject(annotationItems);
-				out.flush();
-				byte[] bytes = bos.toByteArray();
-				writer.write(bytes);
-			}
+			dataFile.write(processingEnv, (writer, item) -> ParameterizedConstructorObjectCodec.write(writer, (ParameterizedConstructorObject) item),
+					ParameterizedConstructorObjectCodec::read);
 		}
 		catch (javax.annotation.processing.FilerException e)
 		{
-			LOG.log(Level.FINER, e, () -> "File " + filename + " already exists. Rewriting file is impossible");
+			LOG.log(Level.FINER, e, () -> "File " + dataFile.getLocation() + " already exists. Rewriting file is impossible");
 		}
 		catch (Exception e)
 		{
-			LOG.log(Level.SEVERE, e, () -> "Error has acquired while File " + filename + " writing");
+			LOG.log(Level.SEVERE, e, () -> "Error has acquired while File " + dataFile.getLocation() + " writing");
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package name.bychkov.junit5.params;
+
+import java.io.IOException;
+
+import name.bychkov.junit5.BinaryDataReader;
+import name.bychkov.junit5.BinaryDataWriter;
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+
+/*
+ * binary records of objects created by ParameterizedConstructorAnnotationProcessor
+ */
+final class ParameterizedConstructorObjectCodec
+{
+	static final int PARAMETERIZED_CONSTRUCTOR_TAG = 32;
+	
+	private ParameterizedConstructorObjectCodec()
+	{
+	}
+	
+	static void write(BinaryDataWriter writer, ParameterizedConstructorObject object) throws IOException
+	{
+		writer.beginRecord(PARAMETERIZED_CONSTRUCTOR_TAG);
+		writer.writeString(object.annotatedElement);
+		writer.writeString(object.targetClass);
+		writer.writeStrings(object.parameters);
+		
+		writer.writeBoolean(object.hasEmptySource);
+		writer.writeBoolean(object.hasNullSource);
+		
+		writer.writeBoolean(object.hasEnumSource);
+		writer.writeString(object.enumSourceValue);
+		writer.writeStrings(object.enumSourceNames);
+		writer.writeString(object.enumSourceMode);
+		
+		writer.writeBoolean(object.hasValueSource);
+		writer.writeShorts(object.valueSourceShorts);
+		writer.writeBytes(object.valueSourceBytes);
+		writer.writeInts(object.valueSourceInts);
+		writer.writeLongs(object.valueSourceLongs);
+		writer.writeFloats(object.valueSourceFloats);
+		writer.writeDoubles(object.valueSourceDoubles);
+		writer.writeChars(object.valueSourceChars);
+		writer.writeBooleans(object.valueSourceBooleans);
+		writer.writeStrings(object.valueSourceStrings);
+		writer.writeStrings(object.valueSourceClasses);
+		
+		writer.writeBoolean(object.hasMethodSource);
+		writer.writeStrings(object.methodSourceValue);
+		
+		writer.writeBoolean(object.parallel);
+		
+		writer.writeBoolean(object.hasCsvSource);
+		writer.writeStrings(object.csvSourceValue);
+		writer.writeString(object.csvSourceQuoteCharacter);
+		writer.writeString(object.csvSourceDelimiter);
+		writer.writeString(object.csvSourceEmptyValue);
+		writer.writeStrings(object.csvSourceNullValues);
+		writer.writeBoolean(object.csvSourceIgnoreWhitespace);
+		
+		writer.writeBoolean(object.hasCsvFileSource);
+		writer.writeStrings(object.csvFileSourceResources);
+		writer.writeStrings(object.csvFileSourceFiles);
+		writer.writeString(object.csvFileSourceEncoding);
+		writer.writeString(object.csvFileSourceQuoteCharacter);
+		writer.writeString(object.csvFileSourceDelimiter);
+		writer.writeInt(object.csvFileSourceNumLinesToSkip);
+		writer.writeString(object.csvFileSourceEmptyValue);
+		writer.writeStrings(object.csvFileSourceNullValues);
+		writer.writeBoolean(object.csvFileSourceIgnoreWhitespace);
+		
+		writer.writeBoolean(object.hasBinaryFileSource);
+		writer.writeStrings(object.binaryFileSourceFiles);
+		writer.writeStrings(object.binaryFileSourceResources);
+		writer.writeInt(object.binaryFileSourceRecordSize);
+		writer.writeInt(object.binaryFileSourceHeaderSize);
+		writer.writeString(object.binaryFileSourceDecoder);
+		
+		writer.writeBoolean(object.autoCloseArguments);
+		writer.endRecord();
+	}
+	
+	/*
+	 * read object of record with specified tag
+	 * if tag is unknown, returns null
+	 */
+	static ParameterizedConstructorObject read(int tag, BinaryDataReader reader) throws IOException
+	{
+		if (tag != PARAMETERIZED_CONSTRUCTOR_TAG)
+		{
+			return null;
+		}
+		ParameterizedConstructorObject object = new ParameterizedConstructorObject();
+		object.annotatedElement = reader.readString();
+		object.targetClass = reader.readString();
+		object.parameters = reader.readStrings();
+		
+		object.hasEmptySource = reader.readBoolean();
+		object.hasNullSource = reader.readBoolean();
+		
+		object.hasEnumSource = reader.readBoolean();
+		object.enumSourceValue = reader.readString();
+		object.enumSourceNames = reader.readStrings();
+		object.enumSourceMode = reader.readString();
+		
+		object.hasValueSource = reader.readBoolean();
+		object.valueSourceShorts = reader.readShorts();
+		object.valueSourceBytes = reader.readBytes();
+		object.valueSourceInts = reader.readInts();
+		object.valueSourceLongs = reader.readLongs();
+		object.valueSourceFloats = reader.readFloats();
+		object.valueSourceDoubles = reader.readDoubles();
+		object.valueSourceChars = reader.readChars();
+		object.valueSourceBooleans = reader.readBooleans();
+		object.valueSourceStrings = reader.readStrings();
+		object.valueSourceClasses = reader.readStrings();
+		
+		object.hasMethodSource = reader.readBoolean();
+		object.methodSourceValue = reader.readStrings();
+		
+		object.parallel = reader.readBoolean();
+		
+		object.hasCsvSource = reader.readBoolean();
+		object.csvSourceValue = reader.readStrings();
+		object.csvSourceQuoteCharacter = reader.readString();
+		object.csvSourceDelimiter = reader.readString();
+		object.csvSourceEmptyValue = reader.readString();
+		object.csvSourceNullValues = reader.readStrings();
+		object.csvSourceIgnoreWhitespace = reader.readBoolean();
+		
+		object.hasCsvFileSource = reader.readBoolean();
+		object.csvFileSourceResources = reader.readStrings();
+		object.csvFileSourceFiles = reader.readStrings();
+		object.csvFileSourceEncoding = reader.readString();
+		object.csvFileSourceQuoteCharacter = reader.readString();
+		object.csvFileSourceDelimiter = reader.readString();
+		object.csvFileSourceNumLinesToSkip = reader.readInt();
+		object.csvFileSourceEmptyValue = reader.readString();
+		object.csvFileSourceNullValues = reader.readStrings();
+		object.csvFileSourceIgnoreWhitespace = reader.readBoolean();
+		
+		object.hasBinaryFileSource = reader.readBoolean();
+		object.binaryFileSourceFiles = reader.readStrings();
+		object.binaryFileSourceResources = reader.readStrings();
+		object.binaryFileSourceRecordSize = reader.readInt();
+		object.binaryFileSourceHeaderSize = reader.readInt();
+		object.binaryFileSourceDecoder = reader.readString();
+		
+		object.autoCloseArguments = reader.readBoolean();
+		return object;
+	}
+}
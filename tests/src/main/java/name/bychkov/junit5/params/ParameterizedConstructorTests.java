@@ -4,18 +4,31 @@ import static java.lang.String.format;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -38,16 +51,32 @@ import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 import name.bychkov.junit5.AbstractTests;
+import name.bychkov.junit5.BinaryDataReader;
 import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
 
 public class ParameterizedConstructorTests extends AbstractTests
 {
+	/**
+	 * Configuration parameter, if it is {@code true} rows of arguments of all templates are executed concurrently
+	 * (the same as {@link ParameterizedConstructor#parallel()} on each template)
+	 */
+	public static final String PARALLEL_PARAMETER = "name.bychkov.junit5.params.parallel";
+	
+	/**
+	 * Configuration parameter with count of threads executing rows of arguments concurrently. By default it is count of available processors
+	 */
+	public static final String ROWS_PARALLELISM_PARAMETER = "name.bychkov.junit5.params.parallelism";
+	
 	private static final Logger LOG = LoggerFactory.getLogger(ParameterizedConstructorTests.class);
 	
 	@TestFactory
-	public Collection<DynamicContainer> testTemplates()
+	public Stream<DynamicContainer> testTemplates()
 	{
-		Collection<DynamicContainer> testContainers = new ArrayList<>();
+		List<Iterator<DynamicContainer>> templates = new ArrayList<>();
+		Collection<Stream<DynamicTest>> concurrentExecutions = new ArrayList<>();
+		int rowsParallelism = getParallelism(ROWS_PARALLELISM_PARAMETER, Runtime.getRuntime().availableProcessors());
+		/* one pool for rows of all parallel templates, it is created with the first of them */
+		AtomicReference<ExecutorService> rowsPool = new AtomicReference<>();
 		Collection<Serializable> annotationClasses = readFile(ParameterizedConstructorAnnotationProcessor.DATA_FILE_LOCATION);
 		
 		Map<String, List<ParameterizedConstructorObject>> annotationClassesGrouppedByTargetClass = groupByTargetClass(annotationClasses);
@@ -61,46 +90,56 @@ public class ParameterizedConstructorTests extends AbstractTests
 			}
 			TestInstance.Lifecycle lifecycle = getTestInstanceLifecycle(targetClass);
 			
-			List<Method> beforeAllMethods = ReflectionUtils.findMethods(targetClass,
-					method -> AnnotationUtils.isAnnotated(method, BeforeAll.class));
-			List<Method> beforeEachMethods = ReflectionUtils.findMethods(targetClass,
-					method -> AnnotationUtils.isAnnotated(method, BeforeEach.class));
+			List<MethodHandle> beforeAllMethods = TemplateMethodHandles.forMethods(ReflectionUtils.findMethods(targetClass,
+					method -> AnnotationUtils.isAnnotated(method, BeforeAll.class)));
+			List<MethodHandle> beforeEachMethods = TemplateMethodHandles.forMethods(ReflectionUtils.findMethods(targetClass,
+					method -> AnnotationUtils.isAnnotated(method, BeforeEach.class)));
 			List<Method> testMethods = getTestMethods(targetClass);
-			List<Method> afterEachMethods = ReflectionUtils.findMethods(targetClass,
-					method -> AnnotationUtils.isAnnotated(method, AfterEach.class));
-			List<Method> afterAllMethods = ReflectionUtils.findMethods(targetClass,
-					method -> AnnotationUtils.isAnnotated(method, AfterAll.class));
+			List<MethodHandle> afterEachMethods = TemplateMethodHandles.forMethods(ReflectionUtils.findMethods(targetClass,
+					method -> AnnotationUtils.isAnnotated(method, AfterEach.class)));
+			List<MethodHandle> afterAllMethods = TemplateMethodHandles.forMethods(ReflectionUtils.findMethods(targetClass,
+					method -> AnnotationUtils.isAnnotated(method, AfterAll.class)));
 			
 			try
 			{
-				Map<Constructor<?>, List<Arguments>> argumentsMap = getArguments(targetClass, entry.getValue());
-				InstanceProducer<?> instanceProducer = new InstanceProducer<>(lifecycle, beforeAllMethods, afterAllMethods,
-						argumentsMap.values().stream().map(List::size).reduce(0, Integer::sum).intValue() * testMethods.size());
 				SubClassProducer<?> subclassProducer = new SubClassProducer<>(targetClass);
+				List<Constructor<?>> constructors = new ArrayList<>();
+				List<MethodHandle> subtypeConstructors = new ArrayList<>();
+				for (ParameterizedConstructorObject obj : entry.getValue())
+				{
+					Constructor<?> constructor = targetClass.getDeclaredConstructor(resolveParameterTypes(obj.parameters));
+					constructors.add(constructor);
+					subtypeConstructors.add(TemplateMethodHandles.forConstructor(generateSubtype(subclassProducer, constructor.getParameterTypes())));
+				}
+				Map<Method, MethodHandle> testMethodHandles = testMethods.stream()
+						.collect(Collectors.toMap(Function.identity(), TemplateMethodHandles::forMethod));
 				
-				for (Constructor<?> constructor : argumentsMap.keySet())
+				InstanceProducer instanceProducer = new InstanceProducer(lifecycle, beforeAllMethods, afterAllMethods);
+				Iterator<Row> rows = new RowIterator(entry.getKey(), entry.getValue(), constructors, i ->
 				{
-					List<Arguments> arguments = argumentsMap.get(constructor);
-					Preconditions.condition(!arguments.isEmpty(), () -> format("Annotation @%s must be used with one or more @*Source annotations",
-							ParameterizedConstructor.class.getSimpleName()));
-					
-					@SuppressWarnings("rawtypes")
-					Constructor subtypeConstructor = generateSubtype(subclassProducer, constructor.getParameterTypes());
-					for (int i = 0; i < arguments.size(); i++)
+					InstanceProducer.Slot slot = instanceProducer.createSlot(subtypeConstructors.get(i.constructorIndex), i.arguments, testMethods.size(),
+							entry.getValue().get(i.constructorIndex).autoCloseArguments);
+					List<DynamicTest> tests = new ArrayList<>(testMethods.size());
+					for (Method testMethod : testMethods)
 					{
-						Arguments argumentsItem = arguments.get(i);
-						List<DynamicTest> tests = new ArrayList<>(testMethods.size());
-						for (Method testMethod : testMethods)
-						{
-							@SuppressWarnings("unchecked")
-							DynamicTest test = DynamicTest.dynamicTest(testMethod.getName(),
-									getExecutable(instanceProducer, subtypeConstructor, argumentsItem, testMethod,
-											beforeEachMethods, afterEachMethods));
-							tests.add(test);
-						}
-						DynamicContainer testContainer = DynamicContainer.dynamicContainer(entry.getKey() + "[" + i + "] ", tests);
-						testContainers.add(testContainer);
+						DynamicTest test = DynamicTest.dynamicTest(testMethod.getName(),
+								getExecutable(slot, testMethodHandles.get(testMethod), beforeEachMethods, afterEachMethods));
+						tests.add(test);
 					}
+					return tests;
+				}, instanceProducer::seal);
+				
+				if (isParallel(entry.getValue()) && !testMethods.isEmpty() && rowsParallelism > 1)
+				{
+					if (rowsPool.get() == null)
+					{
+						rowsPool.set(newWorkerPool(rowsParallelism));
+					}
+					templates.add(executeRows(rows, testMethods.size(), rowsPool.get(), rowsParallelism, concurrentExecutions));
+				}
+				else
+				{
+					templates.add(stream(rows).map(row -> DynamicContainer.dynamicContainer(row.name, row.tests)).iterator());
 				}
 			}
 			catch (NoSuchMethodException | SecurityException | IOException e)
@@ -108,7 +147,254 @@ public class ParameterizedConstructorTests extends AbstractTests
 				LOG.warn(e, () -> "Error has acquired while class " + entry.getKey() + " processing");
 			}
 		}
-		return testContainers;
+		return stream(concat(templates.iterator())).onClose(() ->
+		{
+			concurrentExecutions.forEach(Stream::close);
+			if (rowsPool.get() != null)
+			{
+				rowsPool.get().shutdownNow();
+			}
+		});
+	}
+	
+	private boolean isParallel(List<ParameterizedConstructorObject> objects)
+	{
+		return objects.stream().anyMatch(obj -> obj.parallel)
+				|| getConfigurationParameter(PARALLEL_PARAMETER).map(String::trim).map(Boolean::parseBoolean).orElse(false);
+	}
+	
+	/*
+	 * rows are executed in worker pool concurrently, tests of one row are executed in order of their declaration,
+	 * returned containers (in the same order as rows) have tests waiting for results of execution
+	 * rows are read not more than window of submitted tests ahead, pool is shared by all parallel templates of the factory
+	 */
+	private Iterator<DynamicContainer> executeRows(Iterator<Row> rows, int testCount, ExecutorService pool, int parallelism,
+			Collection<Stream<DynamicTest>> executions)
+	{
+		Deque<String> names = new ArrayDeque<>();
+		AtomicInteger rowNumber = new AtomicInteger();
+		Stream<Map.Entry<String, DynamicTest>> tests = stream(rows).flatMap(row ->
+		{
+			names.add(row.name);
+			String key = String.valueOf(rowNumber.incrementAndGet());
+			return row.tests.stream().map(test -> new AbstractMap.SimpleImmutableEntry<>(key, test));
+		});
+		Stream<DynamicTest> execution = execute(tests, Map.Entry::getKey, Map.Entry::getValue, pool, parallelism);
+		executions.add(execution);
+		Iterator<DynamicTest> executedTests = execution.iterator();
+		return new Iterator<DynamicContainer>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return executedTests.hasNext();
+			}
+			
+			@Override
+			public DynamicContainer next()
+			{
+				List<DynamicTest> rowTests = new ArrayList<>(testCount);
+				for (int i = 0; i < testCount; i++)
+				{
+					rowTests.add(executedTests.next());
+				}
+				return DynamicContainer.dynamicContainer(names.remove(), rowTests);
+			}
+		};
+	}
+	
+	private static <T> Stream<T> stream(Iterator<T> iterator)
+	{
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+	
+	/*
+	 * Stream.flatMap of Java 8 buffers the whole inner stream when outer stream is read by iterator (as JUnit does),
+	 * so lazily generated rows of templates are concatenated by this iterator
+	 */
+	private static <T> Iterator<T> concat(Iterator<? extends Iterator<? extends T>> iterators)
+	{
+		return new Iterator<T>()
+		{
+			private Iterator<? extends T> current = Collections.emptyIterator();
+			
+			@Override
+			public boolean hasNext()
+			{
+				while (!current.hasNext() && iterators.hasNext())
+				{
+					current = iterators.next();
+				}
+				return current.hasNext();
+			}
+			
+			@Override
+			public T next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				return current.next();
+			}
+		};
+	}
+	
+	/*
+	 * row of arguments with its tests
+	 */
+	static class Row
+	{
+		final String name;
+		final List<DynamicTest> tests;
+		
+		Row(String name, List<DynamicTest> tests)
+		{
+			this.name = name;
+			this.tests = tests;
+		}
+	}
+	
+	/*
+	 * arguments of constructor with index in list of constructors of template
+	 */
+	static class ConstructorArguments
+	{
+		final int constructorIndex;
+		final Arguments arguments;
+		
+		ConstructorArguments(int constructorIndex, Arguments arguments)
+		{
+			this.constructorIndex = constructorIndex;
+			this.arguments = arguments;
+		}
+	}
+	
+	/*
+	 * rows of arguments of all constructors of template, arguments are read from providers on demand,
+	 * so only rows which are not executed yet are kept in memory
+	 * the next row is looked ahead: right after the last row is created, the template is sealed
+	 * failure of provider seals the template too (tests of created rows are still executed and followed by @AfterAll),
+	 * it is thrown after the last created row
+	 */
+	class RowIterator implements Iterator<Row>
+	{
+		private final String templateName;
+		private final List<ParameterizedConstructorObject> objects;
+		private final List<Constructor<?>> constructors;
+		private final Function<ConstructorArguments, List<DynamicTest>> testsProducer;
+		private final Runnable sealer;
+		private int constructorIndex = -1;
+		private Stream<? extends Arguments> argumentsStream = Stream.empty();
+		private Iterator<? extends Arguments> arguments = Collections.emptyIterator();
+		private int argumentsIndex;
+		private boolean sealed;
+		private Throwable failure;
+		
+		RowIterator(String templateName, List<ParameterizedConstructorObject> objects, List<Constructor<?>> constructors,
+				Function<ConstructorArguments, List<DynamicTest>> testsProducer, Runnable sealer)
+		{
+			this.templateName = templateName;
+			this.objects = objects;
+			this.constructors = constructors;
+			this.testsProducer = testsProducer;
+			this.sealer = sealer;
+			for (ParameterizedConstructorObject object : objects)
+			{
+				Preconditions.condition(!getArgumentSources(object).isEmpty(), () -> format("Annotation @%s must be used with one or more @*Source annotations",
+						ParameterizedConstructor.class.getSimpleName()));
+			}
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			if (failure != null)
+			{
+				throw ExceptionUtils.throwAsUncheckedException(failure);
+			}
+			try
+			{
+				while (!arguments.hasNext())
+				{
+					argumentsStream.close();
+					Preconditions.condition(constructorIndex < 0 || argumentsIndex > 0, () -> format("Annotation @%s must be used with one or more @*Source annotations",
+							ParameterizedConstructor.class.getSimpleName()));
+					if (++constructorIndex >= constructors.size())
+					{
+						seal();
+						return false;
+					}
+					argumentsStream = getArguments(constructors.get(constructorIndex), objects.get(constructorIndex));
+					arguments = argumentsStream.iterator();
+					argumentsIndex = 0;
+				}
+				return true;
+			}
+			catch (RuntimeException | Error e)
+			{
+				fail(e);
+				throw e;
+			}
+		}
+		
+		@Override
+		public Row next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			String name = templateName + "[" + argumentsIndex++ + "] ";
+			List<DynamicTest> tests;
+			try
+			{
+				tests = testsProducer.apply(new ConstructorArguments(constructorIndex, arguments.next()));
+			}
+			catch (RuntimeException | Error e)
+			{
+				fail(e);
+				throw e;
+			}
+			try
+			{
+				hasNext();
+			}
+			catch (RuntimeException | Error e)
+			{
+				/* created row is returned, failure is thrown by the next call */
+			}
+			return new Row(name, tests);
+		}
+		
+		private void seal()
+		{
+			if (!sealed)
+			{
+				sealed = true;
+				sealer.run();
+			}
+		}
+		
+		private void fail(Throwable e)
+		{
+			failure = e;
+			try
+			{
+				argumentsStream.close();
+				seal();
+			}
+			catch (RuntimeException | Error suppressed)
+			{
+				e.addSuppressed(suppressed);
+			}
+		}
+	}
+	
+	@Override
+	protected Serializable readRecord(int tag, BinaryDataReader reader) throws IOException
+	{
+		return ParameterizedConstructorObjectCodec.read(tag, reader);
 	}
 	
 	private Map<String, List<ParameterizedConstructorObject>> groupByTargetClass(Collection<Serializable> annotationClasses)
@@ -122,67 +408,215 @@ public class ParameterizedConstructorTests extends AbstractTests
 		return result;
 	}
 	
-	static class InstanceProducer<T>
+	/*
+	 * produces instances of test template for rows of arguments (slots), can be used concurrently without locks:
+	 * methods @BeforeAll are executed once before the first instance is created, their failure fails all tests,
+	 * methods @AfterAll are executed after the last test of the last slot
+	 * resources of slot (PER_CLASS instance and arguments) are closed when its last test is processed
+	 * count of slots is not known in advance: counter holds tests of created slots plus one token,
+	 * which is released by seal() when no more slots are created
+	 */
+	static class InstanceProducer
 	{
-		TestInstance.Lifecycle lifecycle;
-		List<Method> beforeAllMethods;
-		List<Method> afterAllMethods;
-		AtomicInteger counter;
-		AtomicBoolean beforeAllExecuted = new AtomicBoolean();
+		private final TestInstance.Lifecycle lifecycle;
+		private final List<MethodHandle> afterAllMethods;
+		private final FutureTask<Object> beforeAll;
+		private final AtomicInteger counter;
 		
+		/*
+		 * methods are handles of type TemplateMethodHandles.METHOD_TYPE
+		 */
 		public InstanceProducer(TestInstance.Lifecycle lifecycle,
-				List<Method> beforeAllMethods, List<Method> afterAllMethods, int testCount)
+				List<MethodHandle> beforeAllMethods, List<MethodHandle> afterAllMethods)
 		{
 			this.lifecycle = lifecycle;
-			this.beforeAllMethods = beforeAllMethods;
 			this.afterAllMethods = afterAllMethods;
-			this.counter = new AtomicInteger(testCount);
+			this.beforeAll = new FutureTask<>(() ->
+			{
+				for (MethodHandle method : beforeAllMethods)
+				{
+					invoke(method, null);
+				}
+				return null;
+			});
+			this.counter = new AtomicInteger(1);
+		}
+		
+		/*
+		 * constructor is handle of type TemplateMethodHandles.CONSTRUCTOR_TYPE
+		 * slots must not be created after seal()
+		 */
+		Slot createSlot(MethodHandle constructor, Arguments arguments, int testCount)
+		{
+			return createSlot(constructor, arguments, testCount, true);
+		}
+		
+		/*
+		 * the same as above, arguments implementing AutoCloseable are closed after the last test of slot if autoCloseArguments is set
+		 */
+		Slot createSlot(MethodHandle constructor, Arguments arguments, int testCount, boolean autoCloseArguments)
+		{
+			counter.addAndGet(testCount);
+			return new Slot(constructor, arguments, testCount, autoCloseArguments);
 		}
 		
-		Constructor<T> constructor;
-		Arguments arguments;
-		private T instance;
+		/*
+		 * no more slots will be created, @AfterAll methods are executed after the tests of already created slots
+		 * (if there were no tests, methods @BeforeAll and @AfterAll are not executed)
+		 */
+		void seal()
+		{
+			try
+			{
+				release();
+			}
+			catch (Throwable e)
+			{
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
 		
-		public T getInstance(Constructor<T> constructor, Arguments arguments)
+		private void release() throws Throwable
 		{
-			synchronized (this)
+			if (counter.decrementAndGet() == 0 && beforeAll.isDone())
 			{
-				if (!beforeAllExecuted.getAndSet(true))
+				for (MethodHandle method : afterAllMethods)
 				{
-					for (Method method : beforeAllMethods)
-					{
-						ReflectionUtils.invokeMethod(method, null);
-					}
+					method.invokeExact((Object) null);
 				}
 			}
-			if (lifecycle == TestInstance.Lifecycle.PER_METHOD)
+		}
+		
+		/*
+		 * tests of one row of arguments, with lifecycle PER_CLASS they share one lazily created instance,
+		 * the instance and arguments are closed (if they are AutoCloseable) and released when all tests of slot are processed
+		 */
+		class Slot
+		{
+			private final MethodHandle constructor;
+			private volatile Arguments arguments;
+			private final AtomicInteger counter;
+			private final boolean autoCloseArguments;
+			private volatile FutureTask<Object> instance;
+			
+			private Slot(MethodHandle constructor, Arguments arguments, int testCount, boolean autoCloseArguments)
+			{
+				this.constructor = constructor;
+				this.arguments = arguments;
+				this.counter = new AtomicInteger(testCount);
+				this.autoCloseArguments = autoCloseArguments;
+				this.instance = lifecycle == TestInstance.Lifecycle.PER_METHOD ? null : new FutureTask<>(this::createInstance);
+			}
+			
+			Object getInstance() throws Throwable
+			{
+				await(beforeAll);
+				FutureTask<Object> sharedInstance = instance;
+				return sharedInstance == null ? createInstance() : await(sharedInstance);
+			}
+			
+			private Object createInstance() throws Exception
 			{
-				T testClassInstance = ReflectionUtils.newInstance(constructor, arguments.get());
-				return testClassInstance;
+				try
+				{
+					return (Object) constructor.invokeExact(arguments.get());
+				}
+				catch (Throwable e)
+				{
+					throw ExceptionUtils.throwAsUncheckedException(e);
+				}
 			}
-			else
+			
+			void endProcessing() throws Throwable
 			{
-				synchronized (this)
+				if (counter.decrementAndGet() != 0)
+				{
+					release();
+					return;
+				}
+				FutureTask<Object> sharedInstance = instance;
+				Object[] closedArguments = autoCloseArguments ? arguments.get() : new Object[0];
+				instance = null;
+				arguments = null;
+				try
+				{
+					close(sharedInstance, closedArguments);
+				}
+				finally
+				{
+					release();
+				}
+			}
+			
+			/*
+			 * created PER_CLASS instance is closed before arguments, the first failure is thrown with others suppressed
+			 */
+			private void close(FutureTask<Object> sharedInstance, Object[] closedArguments) throws Throwable
+			{
+				List<Object> resources = new ArrayList<>();
+				if (sharedInstance != null && sharedInstance.isDone())
+				{
+					try
+					{
+						resources.add(sharedInstance.get());
+					}
+					catch (ExecutionException e)
+					{
+						/* instance is not created */
+					}
+				}
+				Collections.addAll(resources, closedArguments);
+				Throwable failure = null;
+				for (Object resource : resources)
 				{
-					if (!Objects.equals(this.constructor, constructor) || !Objects.equals(this.arguments, arguments))
+					if (resource instanceof AutoCloseable)
 					{
-						this.constructor = constructor;
-						this.arguments = arguments;
-						this.instance = ReflectionUtils.newInstance(constructor, arguments.get());
+						try
+						{
+							((AutoCloseable) resource).close();
+						}
+						catch (Throwable e)
+						{
+							if (failure == null)
+							{
+								failure = e;
+							}
+							else
+							{
+								failure.addSuppressed(e);
+							}
+						}
 					}
-					return instance;
+				}
+				if (failure != null)
+				{
+					throw failure;
 				}
 			}
 		}
 		
-		public void endProcessing()
+		private static Object await(FutureTask<Object> task) throws Throwable
 		{
-			if (counter.decrementAndGet() == 0)
+			task.run();
+			try
 			{
-				for (Method method : afterAllMethods)
-				{
-					ReflectionUtils.invokeMethod(method, null);
-				}
+				return task.get();
+			}
+			catch (ExecutionException e)
+			{
+				throw e.getCause();
+			}
+		}
+		
+		private static void invoke(MethodHandle method, Object target) throws Exception
+		{
+			try
+			{
+				method.invokeExact(target);
+			}
+			catch (Throwable e)
+			{
+				throw ExceptionUtils.throwAsUncheckedException(e);
 			}
 		}
 	}
@@ -212,45 +646,47 @@ public class ParameterizedConstructorTests extends AbstractTests
 		return result;
 	}
 	
-	private <T> org.junit.jupiter.api.function.Executable getExecutable(InstanceProducer<T> instanceProducer,
-			Constructor<T> constructor, Arguments arguments, Method testMethod,
-			List<Method> beforeEachMethods, List<Method> afterEachMethods)
+	/*
+	 * methods are handles of type TemplateMethodHandles.METHOD_TYPE
+	 */
+	private org.junit.jupiter.api.function.Executable getExecutable(InstanceProducer.Slot slot, MethodHandle testMethod,
+			List<MethodHandle> beforeEachMethods, List<MethodHandle> afterEachMethods)
 	{
 		return () ->
 		{
-			Object testClassInstance = instanceProducer.getInstance(constructor, arguments);
 			try
 			{
-				for (Method method : beforeEachMethods)
-				{
-					ReflectionUtils.invokeMethod(method, testClassInstance);
-				}
-				ReflectionUtils.invokeMethod(testMethod, testClassInstance);
-			}
-			catch (AssertionError e)
-			{
-				e.printStackTrace(System.err);
-				throw e;
-			}
-			catch (Throwable e)
-			{
-				e.printStackTrace(System.out);
-				throw e;
-			}
-			finally
-			{
+				Object testClassInstance = slot.getInstance();
 				try
 				{
-					for (Method method : afterEachMethods)
+					for (MethodHandle method : beforeEachMethods)
 					{
-						ReflectionUtils.invokeMethod(method, testClassInstance);
+						method.invokeExact(testClassInstance);
 					}
+					testMethod.invokeExact(testClassInstance);
+				}
+				catch (AssertionError e)
+				{
+					e.printStackTrace(System.err);
+					throw e;
+				}
+				catch (Throwable e)
+				{
+					e.printStackTrace(System.out);
+					throw e;
 				}
 				finally
 				{
-					instanceProducer.endProcessing();
+					for (MethodHandle method : afterEachMethods)
+					{
+						method.invokeExact(testClassInstance);
+					}
 				}
 			}
+			finally
+			{
+				slot.endProcessing();
+			}
 		};
 	}
 	
@@ -268,23 +704,22 @@ public class ParameterizedConstructorTests extends AbstractTests
 		return testMethods;
 	}
 	
-	private Map<Constructor<?>, List<Arguments>> getArguments(Class<?> targetClass, List<ParameterizedConstructorObject> objects)
-			throws NoSuchMethodException, SecurityException
+	/*
+	 * arguments are produced on demand while returned stream is consumed
+	 */
+	private Stream<? extends Arguments> getArguments(Constructor<?> constructor, ParameterizedConstructorObject object)
 	{
-		Map<Constructor<?>, List<Arguments>> arguments = new HashMap<>();
-		for (ParameterizedConstructorObject obj : objects)
+		ExtensionContext extensionContext = new ParameterizedConstructorExecutionContext(constructor);
+		Stream<? extends Arguments> arguments = Stream.empty();
+		for (ParameterizedConstructorObjectAcceptor provider : getArgumentSources(object))
 		{
-			Class<?>[] params = resolveParameterTypes(obj.parameters);
-			Constructor<?> constructor = targetClass.getDeclaredConstructor(params);
-			List<Arguments> itemArguments = getArguments(constructor, obj);
-			arguments.put(constructor, itemArguments);
+			arguments = Stream.concat(arguments, arguments(provider, object, extensionContext));
 		}
 		return arguments;
 	}
 	
-	private List<Arguments> getArguments(Constructor<?> constructor, ParameterizedConstructorObject object)
+	private static List<ParameterizedConstructorObjectAcceptor> getArgumentSources(ParameterizedConstructorObject object)
 	{
-		ExtensionContext extensionContext = new ParameterizedConstructorExecutionContext(constructor);
 		List<ParameterizedConstructorObjectAcceptor> argumentSources = new ArrayList<>();
 		if (object.hasEmptySource)
 		{
@@ -306,11 +741,19 @@ public class ParameterizedConstructorTests extends AbstractTests
 		{
 			argumentSources.add(new MethodArgumentsProvider());
 		}
-		
-		List<Arguments> arguments = argumentSources.stream()
-				.flatMap(provider -> arguments(provider, object, extensionContext))
-				.collect(Collectors.toList());
-		return arguments;
+		if (object.hasCsvSource)
+		{
+			argumentSources.add(new CsvArgumentsProvider());
+		}
+		if (object.hasCsvFileSource)
+		{
+			argumentSources.add(new CsvFileArgumentsProvider());
+		}
+		if (object.hasBinaryFileSource)
+		{
+			argumentSources.add(new BinaryFileArgumentsProvider());
+		}
+		return argumentSources;
 	}
 	
 	protected static Stream<? extends Arguments> arguments(ParameterizedConstructorObjectAcceptor provider,
@@ -1,14 +1,15 @@
 package name.bychkov.junit5.params;
 
-import static org.junit.platform.commons.util.ReflectionUtils.invokeMethod;
-
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Method;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
@@ -19,23 +20,92 @@ import org.objectweb.asm.tree.MethodNode;
 
 public class SubClassProducer<T> implements Opcodes
 {
-	private Method defineClass;
+	/*
+	 * subclasses are generated once per process for each superclass and constructor,
+	 * defined classes are held weakly: hidden class is unloaded when containers using it are finished
+	 * and it is defined again from kept byte code if it is needed later
+	 */
+	private static final ClassValue<Subclasses> SUBCLASSES = new ClassValue<Subclasses>()
+	{
+		@Override
+		protected Subclasses computeValue(Class<?> superClass)
+		{
+			return new Subclasses(superClass);
+		}
+	};
+	
+	private static final Random RANDOM = new Random();
+	
+	private ClassDefiner definer;
+	private Subclasses subclasses;
 	private ClassNode superclassNode;
-	private Random random = new Random();
 	
-	SubClassProducer(Class<T> superClass) throws NoSuchMethodException, SecurityException, IOException
+	SubClassProducer(Class<T> superClass) throws IOException
 	{
-		this.superclassNode = createClassNode(superClass);
-		defineClass = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class);
-		defineClass.setAccessible(true);
+		this.definer = ClassDefiner.getInstance();
+		this.subclasses = SUBCLASSES.get(superClass);
+		this.superclassNode = subclasses.getClassNode();
+	}
+	
+	/*
+	 * parsed superclass and subclasses generated for its constructors, keys are constructor descriptors
+	 */
+	private static class Subclasses
+	{
+		private final Class<?> superClass;
+		private ClassNode classNode;
+		private final Map<String, byte[]> byteCodes = new ConcurrentHashMap<>();
+		private final Map<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+		
+		Subclasses(Class<?> superClass)
+		{
+			this.superClass = superClass;
+		}
+		
+		synchronized ClassNode getClassNode() throws IOException
+		{
+			if (classNode == null)
+			{
+				classNode = createClassNode(superClass);
+			}
+			return classNode;
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
 	public Class<? extends T> get(Class<?>[] params)
 	{
 		Type[] paramTypes = Stream.of(params).map(Type::getType).toArray(Type[]::new);
+		String descriptor = Type.getMethodDescriptor(Type.VOID_TYPE, paramTypes);
+		synchronized (subclasses)
+		{
+			WeakReference<Class<?>> reference = subclasses.classes.get(descriptor);
+			Class<?> result = reference == null ? null : reference.get();
+			if (result == null)
+			{
+				result = define(subclasses.byteCodes.computeIfAbsent(descriptor, key -> generate(paramTypes)));
+				subclasses.classes.put(descriptor, new WeakReference<>(result));
+			}
+			return (Class<? extends T>) result;
+		}
+	}
+	
+	private Class<?> define(byte[] byteCode)
+	{
+		try
+		{
+			return definer.define(subclasses.superClass, byteCode);
+		}
+		catch (Throwable e)
+		{
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+	
+	private byte[] generate(Type[] paramTypes)
+	{
 		MethodNode constructor = findConstructor(superclassNode, paramTypes);
-		String className = superclassNode.name + "_" + random.nextInt(Integer.MAX_VALUE);
+		String className = superclassNode.name + "_" + RANDOM.nextInt(Integer.MAX_VALUE);
 		
 		ClassWriter cw = new ClassWriter(0);
 		cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, className, null, superclassNode.name, null);
@@ -43,9 +113,12 @@ public class SubClassProducer<T> implements Opcodes
 		// Constructor
 		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, constructor.name, constructor.desc, null, null);
 		int[] opcodes = createLoadOpcodes(constructor);
+		/* long and double parameters take two local variable slots */
+		int local = 0;
 		for (int i = 0; i < opcodes.length; i++)
 		{
-			mv.visitVarInsn(opcodes[i], i);
+			mv.visitVarInsn(opcodes[i], local);
+			local += i == 0 ? 1 : paramTypes[i - 1].getSize();
 		}
 		mv.visitMethodInsn(INVOKESPECIAL, superclassNode.name, constructor.name, constructor.desc, false);
 		mv.visitInsn(RETURN);
@@ -53,9 +126,7 @@ public class SubClassProducer<T> implements Opcodes
 		mv.visitMaxs(maxs, maxs);
 		mv.visitEnd();
 		
-		byte[] byteCode = cw.toByteArray();
-		return (Class<? extends T>) invokeMethod(defineClass, getClass().getClassLoader(),
-				className.replace('/', '.'), byteCode, 0, byteCode.length);
+		return cw.toByteArray();
 	}
 	
 	private static int[] createLoadOpcodes(MethodNode constructor)
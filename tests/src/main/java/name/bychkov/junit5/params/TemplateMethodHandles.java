@@ -0,0 +1,66 @@
+package name.bychkov.junit5.params;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/*
+ * constructors and methods of test templates are resolved once into method handles
+ * handles are adapted to common types, so they are called with invokeExact without reflective checks on each call:
+ * methods - (Object)void, target of static method is ignored
+ * constructors - (Object[])Object, arguments are spread to parameters of constructor
+ */
+final class TemplateMethodHandles
+{
+	static final MethodType METHOD_TYPE = MethodType.methodType(void.class, Object.class);
+	static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+	
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	
+	private TemplateMethodHandles()
+	{
+	}
+	
+	static MethodHandle forMethod(Method method)
+	{
+		try
+		{
+			MethodHandle handle = LOOKUP.unreflect(ReflectionUtils.makeAccessible(method));
+			if (Modifier.isStatic(method.getModifiers()))
+			{
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(METHOD_TYPE);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+	
+	static List<MethodHandle> forMethods(List<Method> methods)
+	{
+		return methods.stream().map(TemplateMethodHandles::forMethod).collect(Collectors.toList());
+	}
+	
+	static MethodHandle forConstructor(Constructor<?> constructor)
+	{
+		try
+		{
+			MethodHandle handle = LOOKUP.unreflectConstructor(ReflectionUtils.makeAccessible(constructor));
+			return handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(CONSTRUCTOR_TYPE);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package name.bychkov.junit5.params.provider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+/**
+ * Rows of arguments are fixed-width binary records of files (or classpath resources). Files are mapped into memory,
+ * each record is a read-only view of mapped bytes without copying. Header of the given size at the start of each file is skipped.
+ * Records are converted to arguments by {@link #decoder()}, by default the record itself is the only argument
+ * ({@link ByteBuffer} parameter of constructor).
+ * */
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.CLASS)
+public @interface BinaryFileSource
+{
+	String[] files() default {};
+	
+	String[] resources() default {};
+	
+	int recordSize();
+	
+	int headerSize() default 0;
+	
+	Class<? extends Decoder> decoder() default Decoder.class;
+	
+	/**
+	 * Converts binary record to arguments of constructor. Implementation must have constructor without parameters.
+	 * Record is valid only while its file is mapped, it must not be modified
+	 */
+	@FunctionalInterface
+	interface Decoder
+	{
+		Arguments decode(ByteBuffer record);
+	}
+}
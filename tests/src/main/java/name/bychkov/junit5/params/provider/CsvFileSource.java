@@ -0,0 +1,35 @@
+package name.bychkov.junit5.params.provider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rows of arguments are read from classpath resources and files while tests are executed, files are not loaded into memory entirely.
+ * Columns are converted to types of constructor parameters
+ * 
+ * @see org.junit.jupiter.params.provider.CsvFileSource
+ * */
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.CLASS)
+public @interface CsvFileSource
+{
+	String[] resources() default {};
+	
+	String[] files() default {};
+	
+	String encoding() default "UTF-8";
+	
+	char quoteCharacter() default '"';
+	
+	char delimiter() default ',';
+	
+	int numLinesToSkip() default 0;
+	
+	String emptyValue() default "";
+	
+	String[] nullValues() default {};
+	
+	boolean ignoreLeadingAndTrailingWhitespace() default true;
+}
@@ -0,0 +1,28 @@
+package name.bychkov.junit5.params.provider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Each value is one row of arguments, columns are converted to types of constructor parameters
+ * 
+ * @see org.junit.jupiter.params.provider.CsvSource
+ * */
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.CLASS)
+public @interface CsvSource
+{
+	String[] value() default {};
+	
+	char quoteCharacter() default '\'';
+	
+	char delimiter() default ',';
+	
+	String emptyValue() default "";
+	
+	String[] nullValues() default {};
+	
+	boolean ignoreLeadingAndTrailingWhitespace() default true;
+}
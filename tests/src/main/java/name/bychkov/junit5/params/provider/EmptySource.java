@@ -9,7 +9,7 @@ import java.lang.annotation.Target;
  * @see org.junit.jupiter.params.provider.EmptySource
  * */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.CONSTRUCTOR })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface EmptySource
 {
 }
@@ -19,7 +19,7 @@ import org.junit.platform.commons.util.Preconditions;
  * @see org.junit.jupiter.params.provider.EnumSource
  * */
 @Target(ElementType.CONSTRUCTOR)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface EnumSource
 {
 	Class<? extends Enum<?>> value() default NullEnum.class;
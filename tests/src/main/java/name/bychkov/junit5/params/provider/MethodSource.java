@@ -9,7 +9,7 @@ import java.lang.annotation.Target;
  * @see org.junit.jupiter.params.provider.MethodSource
  * */
 @Target(ElementType.CONSTRUCTOR)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface MethodSource
 {
 	String[] value() default "";
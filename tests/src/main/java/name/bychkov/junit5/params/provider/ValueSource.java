@@ -9,7 +9,7 @@ import java.lang.annotation.Target;
  * @see org.junit.jupiter.params.provider.ValueSource
  * */
 @Target(ElementType.CONSTRUCTOR)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ValueSource
 {
 	short[] shorts() default {};
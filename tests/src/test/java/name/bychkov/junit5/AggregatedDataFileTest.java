@@ -0,0 +1,217 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AggregatedDataFileTest
+{
+	@TempDir
+	Path directory;
+	
+	private Path writeSource(String className, String field) throws IOException
+	{
+		return writeSource("sample", className, field);
+	}
+	
+	private Path writeSource(String packageName, String className, String field) throws IOException
+	{
+		Path source = directory.resolve("src/" + packageName.replace('.', '/') + "/" + className + ".java");
+		Files.createDirectories(source.getParent());
+		String content = "package " + packageName + ";\n"
+				+ "@name.bychkov.junit5.CheckField(targetClass = String.class, value = \"" + field + "\")\n"
+				+ "public class " + className + " {\n"
+				+ "	@name.bychkov.junit5.CheckField(targetClass = String.class, value = \"" + field + "\")\n"
+				+ "	static class Nested {}\n"
+				+ "}\n";
+		Files.write(source, content.getBytes(StandardCharsets.UTF_8));
+		return source;
+	}
+	
+	/*
+	 * generates annotated source in the first round
+	 */
+	@SupportedAnnotationTypes("*")
+	public static class SourceGenerator extends AbstractProcessor
+	{
+		@Override
+		public SourceVersion getSupportedSourceVersion()
+		{
+			return SourceVersion.latestSupported();
+		}
+		
+		@Override
+		public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+		{
+			if (processingEnv.getElementUtils().getTypeElement("sample.Generated") == null)
+			{
+				try (Writer writer = processingEnv.getFiler().createSourceFile("sample.Generated").openWriter())
+				{
+					writer.write("package sample;\n"
+							+ "@name.bychkov.junit5.CheckField(targetClass = String.class, value = \"generated\")\n"
+							+ "public class Generated {}\n");
+				}
+				catch (IOException e)
+				{
+					throw new UncheckedIOException(e);
+				}
+			}
+			return false;
+		}
+	}
+	
+	private void compile(Path classes, Path... sources) throws IOException
+	{
+		compile(classes, CheckAnnotationProcessor.class.getName(), sources);
+	}
+	
+	private void compile(Path classes, String processors, Path... sources) throws IOException
+	{
+		Files.createDirectories(classes);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+		{
+			List<String> options = Arrays.asList("-d", classes.toString(),
+					"-classpath", classes + File.pathSeparator + System.getProperty("java.class.path"),
+					"-processor", processors);
+			List<File> files = new ArrayList<>();
+			for (Path source : sources)
+			{
+				files.add(source.toFile());
+			}
+			assertTrue(compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files)).call());
+		}
+	}
+	
+	private static List<AggregatedDataFile.Shard> readManifest(Path classes) throws IOException
+	{
+		byte[] data = Files.readAllBytes(classes.resolve(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION));
+		BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(data));
+		List<AggregatedDataFile.Shard> shards = new ArrayList<>();
+		while (reader.hasNextRecord())
+		{
+			assertEquals(AggregatedDataFile.SHARD_TAG, reader.nextRecord());
+			shards.add(AggregatedDataFile.Shard.read(reader));
+		}
+		return shards;
+	}
+	
+	/*
+	 * records of all shards as "origin: annotated element = field"
+	 */
+	private static List<String> readRecords(Path classes) throws IOException
+	{
+		List<String> records = new ArrayList<>();
+		for (AggregatedDataFile.Shard shard : readManifest(classes))
+		{
+			Path file = classes.resolve(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION).resolveSibling(shard.getLocation());
+			BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+			String origin = null;
+			while (reader.hasNextRecord())
+			{
+				int tag = reader.nextRecord();
+				if (tag == AggregatedDataFile.ORIGIN_TAG)
+				{
+					origin = reader.readString();
+					continue;
+				}
+				Serializable item = CheckObjectCodec.read(tag, reader);
+				CheckAnnotationProcessor.CheckFieldObject field = (CheckAnnotationProcessor.CheckFieldObject) item;
+				records.add(origin + ": " + field.annotatedElement + " = " + field.value);
+			}
+		}
+		return records;
+	}
+	
+	@Test
+	public void testRecordsAreShardedByPackage() throws IOException
+	{
+		Path classes = directory.resolve("classes");
+		compile(classes, writeSource("sample.other", "Other", "hash"), writeSource("First", "value"));
+		List<AggregatedDataFile.Shard> shards = readManifest(classes);
+		assertEquals(2, shards.size());
+		assertEquals("sample", shards.get(0).getPackageName());
+		assertEquals("reflections-data/sample.dat", shards.get(0).getLocation());
+		assertEquals(2, shards.get(0).getRecordCount());
+		assertEquals("sample.other", shards.get(1).getPackageName());
+		assertEquals("reflections-data/sample.other.dat", shards.get(1).getLocation());
+		for (AggregatedDataFile.Shard shard : shards)
+		{
+			Path file = classes.resolve(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION).resolveSibling(shard.getLocation());
+			assertEquals(shard.getHash(), AggregatedDataFile.Shard.hash(ByteBuffer.wrap(Files.readAllBytes(file))));
+		}
+		assertEquals(Arrays.asList("sample.First: sample.First = value", "sample.First: sample.First.Nested = value",
+				"sample.other.Other: sample.other.Other = hash", "sample.other.Other: sample.other.Other.Nested = hash"), readRecords(classes));
+	}
+	
+	@Test
+	public void testRecordsOfNotCompiledTypesAreKept() throws IOException
+	{
+		Path classes = directory.resolve("classes");
+		Path first = writeSource("First", "hash");
+		Path second = writeSource("Second", "value");
+		compile(classes, first, second);
+		assertEquals(Arrays.asList("sample.First: sample.First = hash", "sample.First: sample.First.Nested = hash",
+				"sample.Second: sample.Second = value", "sample.Second: sample.Second.Nested = value"), readRecords(classes));
+		
+		writeSource("First", "coder");
+		compile(classes, first);
+		assertEquals(Arrays.asList("sample.First: sample.First = coder", "sample.First: sample.First.Nested = coder",
+				"sample.Second: sample.Second = value", "sample.Second: sample.Second.Nested = value"), readRecords(classes),
+				"records of recompiled type are replaced, records of unchanged type are kept");
+		
+		Files.delete(second);
+		Files.delete(classes.resolve("sample/Second.class"));
+		Files.delete(classes.resolve("sample/Second$Nested.class"));
+		compile(classes, first);
+		assertEquals(Arrays.asList("sample.First: sample.First = coder", "sample.First: sample.First.Nested = coder"), readRecords(classes),
+				"records of removed type are dropped");
+	}
+	
+	@Test
+	public void testOutputDoesNotDependOnOrderOfSources() throws IOException
+	{
+		Path first = writeSource("First", "hash");
+		Path second = writeSource("Second", "value");
+		compile(directory.resolve("classes1"), first, second);
+		compile(directory.resolve("classes2"), second, first);
+		assertArrayEquals(Files.readAllBytes(directory.resolve("classes1").resolve(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION)),
+				Files.readAllBytes(directory.resolve("classes2").resolve(CheckAnnotationProcessor.REFLECTIONS_DATA_FILE_LOCATION)));
+	}
+	
+	@Test
+	public void testAnnotationsOfGeneratedSourcesAreProcessed() throws IOException
+	{
+		Path classes = directory.resolve("classes");
+		compile(classes, SourceGenerator.class.getName() + "," + CheckAnnotationProcessor.class.getName(), writeSource("First", "hash"));
+		assertEquals(Arrays.asList("sample.First: sample.First = hash", "sample.First: sample.First.Nested = hash",
+				"sample.Generated: sample.Generated = generated"), readRecords(classes));
+	}
+}
@@ -0,0 +1,121 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BinaryDataTest
+{
+	@Test
+	public void testCheckObjectsRoundTrip() throws IOException
+	{
+		CheckAnnotationProcessor.CheckFieldObject field = new CheckAnnotationProcessor.CheckFieldObject();
+		field.annotatedElement = "name.bychkov.junit5.App.field";
+		field.targetClass = "name.bychkov.junit5.SimpleDTO";
+		field.value = "CONSTANT";
+		
+		CheckAnnotationProcessor.CheckMethodObject method = new CheckAnnotationProcessor.CheckMethodObject();
+		method.annotatedElement = "name.bychkov.junit5.App.method()";
+		method.targetClass = "name.bychkov.junit5.SimpleDTO";
+		method.value = "getValue";
+		method.returnType = "java.lang.String";
+		method.parameters = new String[] { "int", "java.lang.String[]" };
+		method.message = "Méthode absente";
+		
+		CheckAnnotationProcessor.CheckConstructorObject constructor = new CheckAnnotationProcessor.CheckConstructorObject();
+		constructor.annotatedElement = "name.bychkov.junit5.App";
+		constructor.targetClass = "name.bychkov.junit5.SimpleDTO";
+		constructor.parameters = new String[0];
+		
+		CheckAnnotationProcessor.CheckKeysObject keys = new CheckAnnotationProcessor.CheckKeysObject();
+		keys.annotatedElement = "name.bychkov.junit5.App";
+		keys.baseName = "Messages";
+		keys.values = new String[] { "key1", "key2" };
+		keys.locale = "de";
+		
+		CheckAnnotationProcessor.CheckSerializableObject serializable = new CheckAnnotationProcessor.CheckSerializableObject();
+		serializable.annotatedElement = "name.bychkov.junit5.model";
+		serializable.excludes = new String[] { "name.bychkov.junit5.model.UnserializableDTO" };
+		
+		List<Serializable> items = Arrays.asList(field, method, constructor, keys, serializable);
+		BinaryDataWriter writer = new BinaryDataWriter();
+		for (Serializable item : items)
+		{
+			CheckObjectCodec.write(writer, item);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(writer.toByteArray());
+		
+		assertTrue(BinaryDataReader.isBinaryData(buffer));
+		BinaryDataReader reader = new BinaryDataReader(buffer);
+		assertEquals(BinaryDataWriter.VERSION, reader.getVersion());
+		assertEquals(items.size(), reader.getRecordCount());
+		List<Serializable> result = new ArrayList<>();
+		while (reader.hasNextRecord())
+		{
+			result.add(CheckObjectCodec.read(reader.nextRecord(), reader));
+		}
+		assertEquals(items, result);
+	}
+	
+	@Test
+	public void testUnknownRecordIsSkipped() throws IOException
+	{
+		CheckAnnotationProcessor.CheckKeyObject key = new CheckAnnotationProcessor.CheckKeyObject();
+		key.annotatedElement = "name.bychkov.junit5.App";
+		key.baseName = "Messages";
+		key.value = "key1";
+		
+		BinaryDataWriter writer = new BinaryDataWriter();
+		writer.beginRecord(255);
+		writer.writeString("unknown");
+		writer.writeLongs(new long[] { 1L, 2L });
+		writer.endRecord();
+		CheckObjectCodec.write(writer, key);
+		
+		BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(writer.toByteArray()));
+		assertEquals(null, CheckObjectCodec.read(reader.nextRecord(), reader));
+		assertEquals(key, CheckObjectCodec.read(reader.nextRecord(), reader));
+		assertFalse(reader.hasNextRecord());
+	}
+	
+	@Test
+	public void testLegacyDataIsNotBinary() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(new HashSet<>());
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		assertFalse(BinaryDataReader.isBinaryData(buffer));
+		assertThrows(IOException.class, () -> new BinaryDataReader(buffer));
+	}
+	
+	@Test
+	public void testCorruptedDataIsRejected() throws IOException
+	{
+		CheckAnnotationProcessor.CheckFieldsObject fields = new CheckAnnotationProcessor.CheckFieldsObject();
+		fields.targetClass = "name.bychkov.junit5.SimpleDTO";
+		fields.values = new String[] { "field1", "field2" };
+		
+		BinaryDataWriter writer = new BinaryDataWriter();
+		CheckObjectCodec.write(writer, fields);
+		byte[] bytes = writer.toByteArray();
+		
+		BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 4)));
+		assertThrows(IOException.class, reader::nextRecord);
+	}
+}
@@ -0,0 +1,70 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ClassMemberIndexTest
+{
+	static class Parent
+	{
+		protected String name;
+		protected String value;
+		protected Child[] children;
+		
+		public Parent(String name)
+		{
+		}
+		
+		List<String> getValues(int count, String[] names)
+		{
+			return null;
+		}
+	}
+	
+	static class Child extends Parent
+	{
+		private int value;
+		
+		private Child()
+		{
+			super(null);
+		}
+	}
+	
+	@Test
+	public void testMembers()
+	{
+		assertMembers(ClassMemberIndex.of(Child.class));
+	}
+	
+	@Test
+	public void testMembersFromClassFile() throws Exception
+	{
+		assertMembers(new ClassFileMemberIndexer(getClass().getClassLoader()).index(Child.class.getName()));
+	}
+	
+	private void assertMembers(ClassMemberIndex index)
+	{
+		assertTrue(index.hasField("name", null));
+		assertTrue(index.hasField("name", "java.lang.String"));
+		assertTrue(index.hasField("value", "int"));
+		assertFalse(index.hasField("value", "java.lang.String"), "field of superclass is hidden");
+		assertFalse(index.hasField("name", "int"));
+		assertTrue(index.hasField("children", "name.bychkov.junit5.ClassMemberIndexTest.Child[]"));
+		
+		assertTrue(index.hasMethod("getValues", null, null));
+		assertTrue(index.hasMethod("getValues", "java.util.List", null));
+		assertTrue(index.hasMethod("getValues", "", new String[] { "int", "java.lang.String[]" }));
+		assertTrue(index.hasMethod("getValues", "java.util.List", new String[] { "int", "java.lang.String[]" }));
+		assertFalse(index.hasMethod("getValues", "java.lang.String", null));
+		assertFalse(index.hasMethod("getValues", null, new String[] { "int" }));
+		assertFalse(index.hasMethod("toString", "java.lang.String", new String[0]), "methods of Object are not searched");
+		
+		assertTrue(index.hasConstructor(new String[0]));
+		assertFalse(index.hasConstructor(new String[] { "java.lang.String" }), "constructors are not inherited");
+	}
+}
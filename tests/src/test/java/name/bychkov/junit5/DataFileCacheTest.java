@@ -0,0 +1,53 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileCacheTest
+{
+	@Test
+	public void testRecordsAreCachedUntilFileIsModified(@TempDir Path directory) throws IOException
+	{
+		Path file = Files.write(directory.resolve("data.dat"), new byte[] { 1 });
+		Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+		URL resource = file.toUri().toURL();
+		DataFileCache.Version version = DataFileCache.getVersion(resource);
+		assertEquals(1, version.size);
+		assertEquals(1_000_000, version.lastModified);
+		
+		List<Object> records = Collections.singletonList("record");
+		DataFileCache.put(resource, version, records);
+		assertSame(records, DataFileCache.get(resource, DataFileCache.getVersion(resource)));
+		
+		Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+		assertNull(DataFileCache.get(resource, DataFileCache.getVersion(resource)), "records of modified file are decoded again");
+		
+		DataFileCache.put(resource, DataFileCache.getVersion(resource), records);
+		Files.write(file, new byte[] { 1, 2 });
+		Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+		assertNotEquals(version, DataFileCache.getVersion(resource));
+		assertNull(DataFileCache.get(resource, DataFileCache.getVersion(resource)), "file of other size with the same time is decoded again");
+	}
+	
+	@Test
+	public void testUnknownVersionIsNotCached(@TempDir Path directory) throws IOException
+	{
+		URL resource = directory.resolve("absent.dat").toUri().toURL();
+		assertNull(DataFileCache.getVersion(resource));
+		DataFileCache.put(resource, null, Collections.singletonList("record"));
+		assertNull(DataFileCache.get(resource, null));
+	}
+}
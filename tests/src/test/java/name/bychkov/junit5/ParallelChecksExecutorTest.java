@@ -0,0 +1,129 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+public class ParallelChecksExecutorTest
+{
+	private final List<ExecutorService> pools = new ArrayList<>();
+	
+	private ExecutorService createPool(int parallelism)
+	{
+		ExecutorService pool = ParallelChecksExecutor.newPool(parallelism);
+		pools.add(pool);
+		return pool;
+	}
+	
+	@AfterEach
+	public void shutdownPools()
+	{
+		pools.forEach(ExecutorService::shutdownNow);
+	}
+	
+	@Test
+	public void testPartitionsAreExecutedConcurrently() throws Throwable
+	{
+		CountDownLatch latch = new CountDownLatch(2);
+		Stream<String> items = Stream.of("a", "b");
+		try (Stream<DynamicTest> tests = ParallelChecksExecutor.execute(items, item -> item, item -> DynamicTest.dynamicTest(item, () ->
+		{
+			latch.countDown();
+			assertTrue(latch.await(10, TimeUnit.SECONDS), "checks are executed sequentially");
+		}), createPool(2), 2))
+		{
+			for (DynamicTest test : tests.collect(Collectors.toList()))
+			{
+				test.getExecutable().execute();
+			}
+		}
+	}
+	
+	@Test
+	public void testPartitionIsExecutedInOrder() throws Throwable
+	{
+		Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+		Stream<Integer> items = IntStream.range(0, 100).boxed();
+		try (Stream<DynamicTest> tests = ParallelChecksExecutor.execute(items, item -> String.valueOf(item % 3),
+				item -> DynamicTest.dynamicTest("test" + item, () -> executed.computeIfAbsent(String.valueOf(item % 3),
+						key -> Collections.synchronizedList(new ArrayList<>())).add(item)), createPool(4), 4))
+		{
+			List<DynamicTest> result = tests.collect(Collectors.toList());
+			assertEquals(100, result.size());
+			for (DynamicTest test : result)
+			{
+				test.getExecutable().execute();
+			}
+		}
+		for (List<Integer> partition : executed.values())
+		{
+			List<Integer> sorted = new ArrayList<>(partition);
+			Collections.sort(sorted);
+			assertEquals(sorted, partition);
+		}
+	}
+	
+	@Test
+	public void testPoolIsSharedByExecutions() throws Throwable
+	{
+		Set<Thread> workers = ConcurrentHashMap.newKeySet();
+		ExecutorService pool = createPool(2);
+		for (int i = 0; i < 3; i++)
+		{
+			Stream<String> items = Stream.of("a", "b", "c");
+			try (Stream<DynamicTest> tests = ParallelChecksExecutor.execute(items, item -> item,
+					item -> DynamicTest.dynamicTest(item, () -> workers.add(Thread.currentThread())), pool, 2))
+			{
+				for (Iterator<DynamicTest> iterator = tests.iterator(); iterator.hasNext(); )
+				{
+					iterator.next().getExecutable().execute();
+				}
+			}
+			assertFalse(pool.isShutdown(), "pool is shut down by its owner");
+		}
+		assertTrue(workers.size() <= 2, "threads of pool are reused");
+	}
+	
+	@Test
+	public void testFailureIsReportedByItsTest() throws Throwable
+	{
+		AssertionFailedError error = new AssertionFailedError("failed");
+		Stream<String> items = Stream.of("passed", "failed", "skipped");
+		try (Stream<DynamicTest> tests = ParallelChecksExecutor.execute(items, item -> "key",
+				item -> "skipped".equals(item) ? null : DynamicTest.dynamicTest(item, () ->
+				{
+					if ("failed".equals(item))
+					{
+						throw error;
+					}
+				}), createPool(2), 2))
+		{
+			List<DynamicTest> result = tests.collect(Collectors.toList());
+			assertEquals(2, result.size());
+			assertEquals("passed", result.get(0).getDisplayName());
+			result.get(0).getExecutable().execute();
+			assertSame(error, assertThrows(AssertionFailedError.class, result.get(1).getExecutable()::execute));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReflectionChecksCacheTest
+{
+	static class Parent
+	{
+		int field;
+	}
+	
+	static class Child extends Parent
+	{
+	}
+	
+	static class Other
+	{
+		long field;
+	}
+	
+	private static CheckAnnotationProcessor.CheckFieldObject createItem(Class<?> targetClass, String field)
+	{
+		CheckAnnotationProcessor.CheckFieldObject item = new CheckAnnotationProcessor.CheckFieldObject();
+		item.annotatedElement = ReflectionChecksCacheTest.class.getName();
+		item.targetClass = targetClass.getName();
+		item.value = field;
+		return item;
+	}
+	
+	/*
+	 * class loader returning class file of other class instead of class file of replaced class
+	 */
+	private static ClassLoader replace(Class<?> replacedClass, Class<?> otherClass)
+	{
+		return new ClassLoader(ReflectionChecksCacheTest.class.getClassLoader())
+		{
+			@Override
+			public InputStream getResourceAsStream(String name)
+			{
+				return super.getResourceAsStream(name.equals(replacedClass.getName().replace('.', '/') + ".class")
+						? otherClass.getName().replace('.', '/') + ".class" : name);
+			}
+		};
+	}
+	
+	@Test
+	public void testPassedChecksAreStoredBetweenRuns(@TempDir Path directory)
+	{
+		Path file = directory.resolve("target/reflections-cache.dat");
+		ClassLoader classLoader = getClass().getClassLoader();
+		CheckAnnotationProcessor.CheckFieldObject item = createItem(Child.class, "field");
+		CheckAnnotationProcessor.CheckFieldObject otherItem = createItem(Other.class, "field");
+		
+		ReflectionChecksCache cache = ReflectionChecksCache.load(file, classLoader);
+		String key = cache.getKey(item, Child.class.getName(), ReflectionTests.REFLECTION_MODE);
+		String otherKey = cache.getKey(otherItem, Other.class.getName(), ReflectionTests.REFLECTION_MODE);
+		assertNotNull(key);
+		assertFalse(cache.isPassed(key));
+		cache.addPassed(key);
+		cache.addPassed(otherKey);
+		cache.save();
+		
+		cache = ReflectionChecksCache.load(file, classLoader);
+		assertEquals(key, cache.getKey(item, Child.class.getName(), ReflectionTests.REFLECTION_MODE));
+		assertTrue(cache.isPassed(key));
+		cache.save();
+		
+		cache = ReflectionChecksCache.load(file, classLoader);
+		assertTrue(cache.isPassed(key));
+		assertFalse(cache.isPassed(otherKey), "checks not executed in previous run are dropped");
+	}
+	
+	@Test
+	public void testKeyDependsOnRecordAndClassHierarchy(@TempDir Path directory)
+	{
+		Path file = directory.resolve("reflections-cache.dat");
+		CheckAnnotationProcessor.CheckFieldObject item = createItem(Child.class, "field");
+		String key = ReflectionChecksCache.load(file, getClass().getClassLoader()).getKey(item, Child.class.getName(), ReflectionTests.REFLECTION_MODE);
+		
+		ReflectionChecksCache cache = ReflectionChecksCache.load(file, getClass().getClassLoader());
+		assertNotEquals(key, cache.getKey(createItem(Child.class, "other"), Child.class.getName(), ReflectionTests.REFLECTION_MODE));
+		assertNotEquals(key, cache.getKey(item, Child.class.getName(), ReflectionTests.BYTECODE_MODE));
+		assertNull(cache.getKey(item, "name.bychkov.junit5.Absent", ReflectionTests.REFLECTION_MODE), "check of absent class is not cached");
+		
+		cache = ReflectionChecksCache.load(file, replace(Child.class, Parent.class));
+		assertNotEquals(key, cache.getKey(item, Child.class.getName(), ReflectionTests.REFLECTION_MODE), "key depends on class file of target class");
+		
+		cache = ReflectionChecksCache.load(file, replace(Parent.class, Other.class));
+		assertNotEquals(key, cache.getKey(item, Child.class.getName(), ReflectionTests.REFLECTION_MODE), "key depends on class file of superclass");
+	}
+}
@@ -0,0 +1,122 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializationVerdictCacheTest
+{
+	private static class Holder implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Item item;
+		List<Element> elements;
+		transient Unrelated skipped;
+	}
+	
+	private static class Item implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Object value;
+	}
+	
+	private static class Element implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+	}
+	
+	private static class Unrelated
+	{
+	}
+	
+	private static String getInternalName(Class<?> klass)
+	{
+		return klass.getName().replace('.', '/');
+	}
+	
+	/*
+	 * class loader returning class file of other class instead of class file of replaced class
+	 */
+	private static ClassLoader replace(Class<?> replacedClass, Class<?> otherClass)
+	{
+		return new ClassLoader(SerializationVerdictCacheTest.class.getClassLoader())
+		{
+			@Override
+			public InputStream getResourceAsStream(String name)
+			{
+				return super.getResourceAsStream(name.equals(getInternalName(replacedClass) + ".class") ? getInternalName(otherClass) + ".class" : name);
+			}
+		};
+	}
+	
+	private Path saveVerdict(Path directory, List<String> verdict)
+	{
+		Path file = directory.resolve("target/serializable-cache.dat");
+		SerializationVerdictCache cache = SerializationVerdictCache.load(file, getClass().getClassLoader(), ReflectionTests.REFLECTION_MODE);
+		assertNull(cache.getVerdict(getInternalName(Holder.class)));
+		cache.putVerdict(getInternalName(Holder.class), verdict);
+		cache.save();
+		return file;
+	}
+	
+	@Test
+	public void testVerdictIsUsedWhileClassAndDependenciesAreNotChanged(@TempDir Path directory)
+	{
+		List<String> verdict = Arrays.asList("first problem", "second problem");
+		Path file = saveVerdict(directory, verdict);
+		
+		SerializationVerdictCache cache = SerializationVerdictCache.load(file, getClass().getClassLoader(), ReflectionTests.REFLECTION_MODE);
+		assertEquals(verdict, cache.getVerdict(getInternalName(Holder.class)));
+		assertNull(cache.getVerdict(getInternalName(Item.class)), "dependency without own verdict");
+		cache.save();
+		
+		cache = SerializationVerdictCache.load(file, replace(Unrelated.class, Element.class), ReflectionTests.REFLECTION_MODE);
+		assertEquals(verdict, cache.getVerdict(getInternalName(Holder.class)), "transient fields are not dependencies");
+	}
+	
+	@Test
+	public void testVerdictIsDroppedIfClassOrDependencyIsChanged(@TempDir Path directory)
+	{
+		Path file = saveVerdict(directory, Collections.emptyList());
+		ClassLoader classLoader = getClass().getClassLoader();
+		
+		assertNull(SerializationVerdictCache.load(file, replace(Holder.class, Item.class), ReflectionTests.REFLECTION_MODE)
+				.getVerdict(getInternalName(Holder.class)), "class is changed");
+		assertNull(SerializationVerdictCache.load(file, replace(Item.class, Element.class), ReflectionTests.REFLECTION_MODE)
+				.getVerdict(getInternalName(Holder.class)), "type of field is changed");
+		assertNull(SerializationVerdictCache.load(file, replace(Element.class, Item.class), ReflectionTests.REFLECTION_MODE)
+				.getVerdict(getInternalName(Holder.class)), "generic argument of field is changed");
+		assertNull(SerializationVerdictCache.load(file, replace(Object.class, Item.class), ReflectionTests.REFLECTION_MODE)
+				.getVerdict(getInternalName(Holder.class)), "indirect dependency is changed");
+		assertNull(SerializationVerdictCache.load(file, classLoader, ReflectionTests.BYTECODE_MODE)
+				.getVerdict(getInternalName(Holder.class)), "verdicts of other mode are not used");
+	}
+	
+	@Test
+	public void testCheckerUsesStoredVerdicts(@TempDir Path directory) throws Exception
+	{
+		Path file = directory.resolve("serializable-cache.dat");
+		ClassLoader classLoader = getClass().getClassLoader();
+		SerializationVerdictCache cache = SerializationVerdictCache.load(file, classLoader, ReflectionTests.BYTECODE_MODE);
+		List<String> verdict = new ClassFileSerializationChecker(classLoader, cache).isClassSerializable(getInternalName(Holder.class));
+		assertFalse(verdict.isEmpty());
+		cache.save();
+		
+		cache = SerializationVerdictCache.load(file, classLoader, ReflectionTests.BYTECODE_MODE);
+		assertEquals(verdict, cache.getVerdict(getInternalName(Holder.class)));
+		assertEquals(new ClassFileSerializationChecker(classLoader).isClassSerializable(getInternalName(Item.class)),
+				cache.getVerdict(getInternalName(Item.class)), "verdicts of checked dependencies are stored too");
+	}
+}
@@ -0,0 +1,134 @@
+package name.bychkov.junit5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class StreamFileTest
+{
+	private static final int TAG = 1;
+	
+	/*
+	 * records are strings, decoded records are counted
+	 */
+	static class StringTests extends AbstractTests
+	{
+		final AtomicInteger decodedRecords = new AtomicInteger();
+		
+		@Override
+		protected Serializable readRecord(int tag, BinaryDataReader reader) throws IOException
+		{
+			decodedRecords.incrementAndGet();
+			return reader.readString();
+		}
+	}
+	
+	/*
+	 * data file in memory, its readings are counted
+	 */
+	private static class MemoryFile extends URLStreamHandler
+	{
+		final AtomicInteger readings = new AtomicInteger();
+		private final byte[] content;
+		private final long lastModified;
+		
+		MemoryFile(long lastModified, String... records) throws IOException
+		{
+			BinaryDataWriter writer = new BinaryDataWriter();
+			for (String record : records)
+			{
+				writer.beginRecord(TAG);
+				writer.writeString(record);
+				writer.endRecord();
+			}
+			this.content = writer.toByteArray();
+			this.lastModified = lastModified;
+		}
+		
+		URL getURL(String name) throws MalformedURLException
+		{
+			return new URL("memory", null, -1, "/" + name + "/data.dat", this);
+		}
+		
+		@Override
+		protected URLConnection openConnection(URL url)
+		{
+			return new URLConnection(url)
+			{
+				@Override
+				public void connect()
+				{
+				}
+				
+				@Override
+				public long getContentLengthLong()
+				{
+					return content.length;
+				}
+				
+				@Override
+				public long getLastModified()
+				{
+					return lastModified;
+				}
+				
+				@Override
+				public InputStream getInputStream()
+				{
+					readings.incrementAndGet();
+					return new ByteArrayInputStream(content);
+				}
+			};
+		}
+	}
+	
+	private static List<Serializable> read(AbstractTests tests, URL... resources)
+	{
+		try (Stream<Serializable> stream = tests.streamFile(Arrays.asList(resources)))
+		{
+			return stream.collect(Collectors.toList());
+		}
+	}
+	
+	@Test
+	public void testCopiesAreMergedInClasspathOrder() throws IOException
+	{
+		List<URL> resources = new ArrayList<>();
+		String[][] copies = { { "a", "b" }, { "b", "c" }, { "a", "d" }, { "e" }, { "d", "f" } };
+		for (int i = 0; i < copies.length; i++)
+		{
+			resources.add(new MemoryFile(0, copies[i]).getURL("merged" + i));
+		}
+		assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f"), read(new StringTests(), resources.toArray(new URL[0])));
+	}
+	
+	@Test
+	public void testRecordsAreDecodedOnce() throws IOException
+	{
+		MemoryFile file = new MemoryFile(1_000_000, "a", "b", "c");
+		URL resource = file.getURL("cached");
+		StringTests tests = new StringTests();
+		assertEquals(Arrays.asList("a", "b", "c"), read(tests, resource));
+		assertEquals(1, file.readings.get());
+		assertEquals(3, tests.decodedRecords.get());
+		
+		assertEquals(Arrays.asList("a", "b", "c"), read(tests, resource), "records are taken from cache");
+		assertEquals(1, file.readings.get(), "file is not read again");
+		assertEquals(3, tests.decodedRecords.get(), "records are not decoded again");
+	}
+}
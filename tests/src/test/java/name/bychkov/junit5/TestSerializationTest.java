@@ -10,15 +10,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.naming.CompositeName;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import name.bychkov.junit5.params.ParameterizedConstructorTests;
 
 public class TestSerializationTest
 {
@@ -69,4 +77,80 @@ public class TestSerializationTest
 	{
 		return TestGeneric.class.getDeclaredField(fieldName).getGenericType();
 	}
-}
\ No newline at end of file
+	
+	private static class Node implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Node parent;
+		List<Node> children;
+		Leaf leaf;
+	}
+	
+	private static class Leaf implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Node node;
+		Object value;
+	}
+	
+	@Test
+	public void testCircularReferences()
+	{
+		SerializationTest test = new SerializationTest();
+		List<String> expected = Arrays.asList(Node.class.getCanonicalName() + " -> leaf:" + Leaf.class.getCanonicalName() + " -> value:"
+				+ Object.class.getCanonicalName() + " -> Not implements " + Serializable.class.getCanonicalName());
+		assertEquals(expected, test.isClassSerializable(Node.class));
+		assertEquals(expected, test.isClassSerializable(Node.class));
+		assertTrue(test.isClassSerializable(Leaf.class).contains(Leaf.class.getCanonicalName() + " -> value:" + Object.class.getCanonicalName()
+				+ " -> Not implements " + Serializable.class.getCanonicalName()));
+	}
+	
+	private static class Container implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Map<String, List<Leaf>> values;
+		List<? extends Leaf> wildcards;
+		Collection<Node[]> arrays;
+		Set<ServiceLoader<?>> loaders;
+		transient Object skipped;
+		int[] numbers;
+		Color color;
+	}
+	
+	private static class Child extends Container
+	{
+		private static final long serialVersionUID = 1L;
+		
+		Object color;
+	}
+	
+	private enum Color
+	{
+		RED
+	}
+	
+	@Test
+	public void testClassFilesAreCheckedAsClasses() throws Exception
+	{
+		SerializationTest test = new SerializationTest();
+		ClassFileSerializationChecker checker = new ClassFileSerializationChecker(getClass().getClassLoader());
+		for (Class<?> klass : Arrays.asList(Child.class, Container.class, Node.class, Leaf.class, Color.class, TestGeneric.class, HashMap.class, CompositeName.class))
+		{
+			assertEquals(test.isClassSerializable(klass), checker.isClassSerializable(klass.getName().replace('.', '/')), klass.getName());
+		}
+	}
+	
+	@Test
+	public void testClassFilesOfPackage() throws Exception
+	{
+		String packageName = ParameterizedConstructorTests.class.getPackage().getName();
+		ClassFileSerializationChecker checker = new ClassFileSerializationChecker(getClass().getClassLoader());
+		Set<String> expected = ReflectionUtils.findAllClassesInPackage(packageName, ClassFilter.of(klass -> true)).stream()
+				.map(klass -> klass.getName().replace('.', '/')).collect(Collectors.toSet());
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, new HashSet<>(checker.findAllClassesInPackage(packageName)));
+	}
+}
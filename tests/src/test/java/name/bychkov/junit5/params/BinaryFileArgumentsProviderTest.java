@@ -0,0 +1,105 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.PreconditionViolationException;
+
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+import name.bychkov.junit5.params.provider.BinaryFileSource;
+
+public class BinaryFileArgumentsProviderTest
+{
+	public static class Template
+	{
+		public Template(ByteBuffer record)
+		{
+		}
+		
+		public Template(int id, long value)
+		{
+		}
+	}
+	
+	public static class RecordDecoder implements BinaryFileSource.Decoder
+	{
+		@Override
+		public Arguments decode(ByteBuffer record)
+		{
+			return Arguments.of(record.getInt(), record.getLong());
+		}
+	}
+	
+	private static ParameterizedConstructorObject createObject(Path file, int headerSize, String decoder)
+	{
+		ParameterizedConstructorObject object = new ParameterizedConstructorObject();
+		object.binaryFileSourceFiles = new String[] { file.toString() };
+		object.binaryFileSourceResources = new String[0];
+		object.binaryFileSourceRecordSize = 12;
+		object.binaryFileSourceHeaderSize = headerSize;
+		object.binaryFileSourceDecoder = decoder;
+		return object;
+	}
+	
+	private static List<Arguments> provide(ParameterizedConstructorObject object, Class<?>... parameterTypes) throws Exception
+	{
+		BinaryFileArgumentsProvider provider = new BinaryFileArgumentsProvider();
+		provider.accept(object);
+		ParameterizedConstructorExecutionContext context = new ParameterizedConstructorExecutionContext(Template.class.getConstructor(parameterTypes));
+		return provider.provideArguments(context).collect(Collectors.toList());
+	}
+	
+	private static Path writeRecords(Path directory, int count) throws IOException
+	{
+		ByteBuffer content = ByteBuffer.allocate(4 + count * 12);
+		content.putInt(0xCAFEBABE);
+		for (int i = 0; i < count; i++)
+		{
+			content.putInt(i).putLong(i * 1000L);
+		}
+		return Files.write(directory.resolve("records.bin"), content.array());
+	}
+	
+	@Test
+	public void testRecordsAreViewsOfFile(@TempDir Path directory) throws Exception
+	{
+		List<Arguments> arguments = provide(createObject(writeRecords(directory, 3), 4, null), ByteBuffer.class);
+		assertEquals(3, arguments.size());
+		for (int i = 0; i < 3; i++)
+		{
+			ByteBuffer record = (ByteBuffer) arguments.get(i).get()[0];
+			assertTrue(record.isReadOnly());
+			assertTrue(record.isDirect(), "record is not copied into heap");
+			assertEquals(12, record.remaining());
+			assertEquals(i, record.getInt());
+			assertEquals(i * 1000L, record.getLong());
+		}
+	}
+	
+	@Test
+	public void testRecordsAreDecoded(@TempDir Path directory) throws Exception
+	{
+		List<Arguments> arguments = provide(createObject(writeRecords(directory, 2), 4, RecordDecoder.class.getName()), int.class, long.class);
+		assertEquals(2, arguments.size());
+		assertEquals(1, arguments.get(1).get()[0]);
+		assertEquals(1000L, arguments.get(1).get()[1]);
+	}
+	
+	@Test
+	public void testSizeIsNotMultipleOfRecordSize(@TempDir Path directory) throws Exception
+	{
+		ParameterizedConstructorObject object = createObject(writeRecords(directory, 2), 0, null);
+		assertThrows(PreconditionViolationException.class, () -> provide(object, ByteBuffer.class));
+	}
+}
@@ -0,0 +1,90 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.CsvParsingException;
+
+public class CsvParserTest
+{
+	private static List<String[]> parse(String input, char delimiter, char quoteCharacter, boolean ignoreWhitespace)
+	{
+		List<String[]> rows = new ArrayList<>();
+		try (CsvParser parser = new CsvParser(new StringReader(input), delimiter, quoteCharacter, "", new String[] { "N/A" }, ignoreWhitespace))
+		{
+			parser.forEachRemaining(rows::add);
+		}
+		return rows;
+	}
+	
+	@Test
+	public void testRows()
+	{
+		List<String[]> rows = parse("# comment\r\n a , 1\r\n\nb,2\rc,\n,\"\"\n N/A ,x", ',', '"', true);
+		assertEquals(5, rows.size());
+		assertArrayEquals(new String[] { "a", "1" }, rows.get(0));
+		assertArrayEquals(new String[] { "b", "2" }, rows.get(1));
+		assertArrayEquals(new String[] { "c", null }, rows.get(2));
+		assertArrayEquals(new String[] { null, "" }, rows.get(3), "unquoted empty value is null, quoted empty value is empty");
+		assertArrayEquals(new String[] { null, "x" }, rows.get(4));
+	}
+	
+	@Test
+	public void testQuotedValues()
+	{
+		List<String[]> rows = parse("'a, b' , 'it''s'\n' multi\nline ',#", ',', '\'', true);
+		assertEquals(2, rows.size());
+		assertArrayEquals(new String[] { "a, b", "it's" }, rows.get(0));
+		assertArrayEquals(new String[] { " multi\nline ", "#" }, rows.get(1));
+	}
+	
+	@Test
+	public void testWhitespaceIsKept()
+	{
+		assertArrayEquals(new String[] { " a ", "  ", "b" }, parse(" a \t  \tb", '\t', '"', false).get(0));
+		assertArrayEquals(new String[] { "a", null, "b" }, parse(" a \t  \tb", '\t', '"', true).get(0), "delimiter is not whitespace");
+	}
+	
+	@Test
+	public void testLongInput()
+	{
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 10_000; i++)
+		{
+			input.append(i).append(",\"value ").append(i).append("\"\n");
+		}
+		try (CsvParser parser = new CsvParser(new StringReader(input.toString()), ',', '"', "", new String[0], true))
+		{
+			for (int i = 0; i < 10_000; i++)
+			{
+				assertArrayEquals(new String[] { String.valueOf(i), "value " + i }, parser.next());
+			}
+			assertFalse(parser.hasNext());
+		}
+	}
+	
+	@Test
+	public void testMalformedInput()
+	{
+		assertThrows(CsvParsingException.class, () -> parse("'a,b", ',', '\'', true));
+		assertThrows(CsvParsingException.class, () -> parse("'a'b,c", ',', '\'', true));
+	}
+	
+	@Test
+	public void testLineBreaksInQuotedValuesAreCounted()
+	{
+		assertEquals("Unexpected character 'x' after quoted value at line 3",
+				assertThrows(CsvParsingException.class, () -> parse("'a\rb\rc'x", ',', '\'', true)).getMessage(), "CR line breaks");
+		assertEquals("Unexpected character 'x' after quoted value at line 3",
+				assertThrows(CsvParsingException.class, () -> parse("'a\r\nb\nc'x", ',', '\'', true)).getMessage(), "CRLF and LF line breaks");
+		assertEquals("Quoted value started at line 3 is not closed",
+				assertThrows(CsvParsingException.class, () -> parse("'a\rb'\r'c", ',', '\'', true)).getMessage());
+	}
+}
@@ -0,0 +1,46 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+public class CsvValueConverterTest
+{
+	@Test
+	public void testLocalConversions()
+	{
+		CsvValueConverter converter = new CsvValueConverter.LocalValueConverter();
+		assertEquals(42, converter.convert("42", int.class));
+		assertEquals(42L, converter.convert("42", Long.class));
+		assertEquals(true, converter.convert("TRUE", boolean.class));
+		assertEquals('x', converter.convert("x", char.class));
+		assertEquals("text", converter.convert("text", String.class));
+		assertEquals(TimeUnit.SECONDS, converter.convert("SECONDS", TimeUnit.class));
+		assertEquals(String.class, converter.convert("java.lang.String", Class.class));
+		assertEquals(LocalDate.of(2020, 2, 29), converter.convert("2020-02-29", LocalDate.class), "factory method parse(CharSequence)");
+		assertEquals(new BigDecimal("1.50"), converter.convert("1.50", BigDecimal.class), "constructor with String parameter");
+		assertNull(converter.convert(null, Integer.class));
+		
+		assertThrows(ArgumentConversionException.class, () -> converter.convert(null, int.class));
+		assertThrows(ArgumentConversionException.class, () -> converter.convert("yes", boolean.class));
+		assertThrows(ArgumentConversionException.class, () -> converter.convert("1.5", int.class));
+	}
+	
+	@Test
+	public void testConvertersAgree()
+	{
+		CsvValueConverter local = new CsvValueConverter.LocalValueConverter();
+		CsvValueConverter converter = CsvValueConverter.getInstance();
+		for (Class<?> type : new Class<?>[] { int.class, double.class, Short.class, BigDecimal.class, String.class })
+		{
+			assertEquals(local.convert("12", type), converter.convert("12", type), type.getName());
+		}
+	}
+}
@@ -0,0 +1,301 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.opentest4j.AssertionFailedError;
+
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+import name.bychkov.junit5.params.ParameterizedConstructorTests.InstanceProducer;
+import name.bychkov.junit5.params.ParameterizedConstructorTests.Row;
+
+public class InstanceProducerTest
+{
+	static class Template
+	{
+		static final AtomicInteger beforeAllCalls = new AtomicInteger();
+		static final AtomicInteger afterAllCalls = new AtomicInteger();
+		
+		final String value;
+		
+		Template(String value)
+		{
+			this.value = value;
+		}
+		
+		static void beforeAll()
+		{
+			beforeAllCalls.incrementAndGet();
+		}
+		
+		static void afterAll()
+		{
+			afterAllCalls.incrementAndGet();
+		}
+		
+		static void failedBeforeAll()
+		{
+			throw new AssertionFailedError("failed");
+		}
+		
+		static Stream<String> failingValues()
+		{
+			return Stream.of("first", "second", "third").peek(value ->
+			{
+				if ("third".equals(value))
+				{
+					throw new IllegalStateException("failed provider");
+				}
+			});
+		}
+	}
+	
+	static class Resource implements AutoCloseable
+	{
+		int closeCalls;
+		
+		@Override
+		public void close()
+		{
+			closeCalls++;
+		}
+	}
+	
+	static class CloseableTemplate implements AutoCloseable
+	{
+		final Resource resource;
+		int closeCalls;
+		
+		CloseableTemplate(Resource resource)
+		{
+			this.resource = resource;
+		}
+		
+		@Override
+		public void close()
+		{
+			assertEquals(0, resource.closeCalls, "instance is closed before arguments");
+			closeCalls++;
+		}
+	}
+	
+	private static MethodHandle getConstructor() throws NoSuchMethodException
+	{
+		return TemplateMethodHandles.forConstructor(Template.class.getDeclaredConstructor(String.class));
+	}
+	
+	private static List<MethodHandle> getMethods(String name) throws NoSuchMethodException
+	{
+		return Collections.singletonList(TemplateMethodHandles.forMethod(Template.class.getDeclaredMethod(name)));
+	}
+	
+	@Test
+	public void testInstancesPerClass() throws Throwable
+	{
+		int beforeAllCalls = Template.beforeAllCalls.get();
+		int afterAllCalls = Template.afterAllCalls.get();
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_CLASS, getMethods("beforeAll"), getMethods("afterAll"));
+		InstanceProducer.Slot first = producer.createSlot(getConstructor(), Arguments.of("first"), 2);
+		InstanceProducer.Slot second = producer.createSlot(getConstructor(), Arguments.of("second"), 2);
+		producer.seal();
+		
+		Object firstInstance = first.getInstance();
+		Object secondInstance = second.getInstance();
+		assertEquals("first", ((Template) firstInstance).value);
+		assertEquals("second", ((Template) secondInstance).value);
+		assertSame(firstInstance, first.getInstance(), "instance of slot is reused after other slot");
+		assertSame(secondInstance, second.getInstance());
+		assertEquals(beforeAllCalls + 1, Template.beforeAllCalls.get());
+		
+		first.endProcessing();
+		first.endProcessing();
+		second.endProcessing();
+		assertEquals(afterAllCalls, Template.afterAllCalls.get());
+		second.endProcessing();
+		assertEquals(afterAllCalls + 1, Template.afterAllCalls.get());
+	}
+	
+	@Test
+	public void testAfterAllWaitsForSeal() throws Throwable
+	{
+		int afterAllCalls = Template.afterAllCalls.get();
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_METHOD, getMethods("beforeAll"), getMethods("afterAll"));
+		InstanceProducer.Slot first = producer.createSlot(getConstructor(), Arguments.of("first"), 1);
+		first.getInstance();
+		first.endProcessing();
+		assertEquals(afterAllCalls, Template.afterAllCalls.get(), "more slots can be created before seal");
+		
+		InstanceProducer.Slot second = producer.createSlot(getConstructor(), Arguments.of("second"), 1);
+		producer.seal();
+		assertEquals(afterAllCalls, Template.afterAllCalls.get());
+		second.getInstance();
+		second.endProcessing();
+		assertEquals(afterAllCalls + 1, Template.afterAllCalls.get());
+	}
+	
+	@Test
+	public void testSealWithoutTests() throws Throwable
+	{
+		int beforeAllCalls = Template.beforeAllCalls.get();
+		int afterAllCalls = Template.afterAllCalls.get();
+		new InstanceProducer(TestInstance.Lifecycle.PER_CLASS, getMethods("beforeAll"), getMethods("afterAll")).seal();
+		assertEquals(beforeAllCalls, Template.beforeAllCalls.get());
+		assertEquals(afterAllCalls, Template.afterAllCalls.get());
+	}
+	
+	@Test
+	public void testResourcesAreClosedWhenSlotDrains() throws Throwable
+	{
+		MethodHandle constructor = TemplateMethodHandles.forConstructor(CloseableTemplate.class.getDeclaredConstructor(Resource.class));
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_CLASS, Collections.emptyList(), Collections.emptyList());
+		Resource resource = new Resource();
+		InstanceProducer.Slot slot = producer.createSlot(constructor, Arguments.of(resource), 2, true);
+		Resource keptResource = new Resource();
+		InstanceProducer.Slot keptSlot = producer.createSlot(constructor, Arguments.of(keptResource), 1, false);
+		producer.seal();
+		
+		CloseableTemplate instance = (CloseableTemplate) slot.getInstance();
+		slot.endProcessing();
+		assertEquals(0, instance.closeCalls);
+		assertEquals(0, resource.closeCalls);
+		slot.endProcessing();
+		assertEquals(1, instance.closeCalls);
+		assertEquals(1, resource.closeCalls);
+		
+		CloseableTemplate keptInstance = (CloseableTemplate) keptSlot.getInstance();
+		keptSlot.endProcessing();
+		assertEquals(1, keptInstance.closeCalls);
+		assertEquals(0, keptResource.closeCalls, "arguments are not closed without autoCloseArguments");
+	}
+	
+	@Test
+	public void testAfterAllIsExecutedOnceWhenProviderFails() throws Throwable
+	{
+		int afterAllCalls = Template.afterAllCalls.get();
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_METHOD, Collections.emptyList(), getMethods("afterAll"));
+		MethodHandle constructor = getConstructor();
+		ParameterizedConstructorObject object = new ParameterizedConstructorObject();
+		object.hasMethodSource = true;
+		object.methodSourceValue = new String[] { "failingValues" };
+		Iterator<Row> rows = new ParameterizedConstructorTests().new RowIterator("Template", Collections.singletonList(object),
+				Collections.singletonList(Template.class.getDeclaredConstructor(String.class)), i ->
+				{
+					InstanceProducer.Slot slot = producer.createSlot(constructor, i.arguments, 1);
+					return Collections.singletonList(DynamicTest.dynamicTest("test", () ->
+					{
+						try
+						{
+							slot.getInstance();
+						}
+						finally
+						{
+							slot.endProcessing();
+						}
+					}));
+				}, producer::seal);
+		
+		List<Row> created = new ArrayList<>();
+		created.add(rows.next());
+		created.add(rows.next());
+		assertEquals("failed provider", assertThrows(IllegalStateException.class, rows::hasNext).getMessage(),
+				"failure is thrown after the last created row");
+		assertThrows(IllegalStateException.class, rows::hasNext);
+		for (Row row : created)
+		{
+			assertEquals(afterAllCalls, Template.afterAllCalls.get());
+			row.tests.get(0).getExecutable().execute();
+		}
+		assertEquals(afterAllCalls + 1, Template.afterAllCalls.get());
+	}
+	
+	@Test
+	public void testSourceIsRequiredBeforeRowsAreCreated() throws Throwable
+	{
+		ParameterizedConstructorObject object = new ParameterizedConstructorObject();
+		AtomicInteger sealCalls = new AtomicInteger();
+		assertThrows(PreconditionViolationException.class, () -> new ParameterizedConstructorTests().new RowIterator("Template",
+				Collections.singletonList(object), Collections.singletonList(Template.class.getDeclaredConstructor(String.class)),
+				i -> Collections.emptyList(), sealCalls::incrementAndGet));
+		assertEquals(0, sealCalls.get());
+	}
+	
+	@Test
+	public void testInstancesPerMethod() throws Throwable
+	{
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_METHOD, Collections.emptyList(), Collections.emptyList());
+		InstanceProducer.Slot slot = producer.createSlot(getConstructor(), Arguments.of("value"), 2);
+		assertNotSame(slot.getInstance(), slot.getInstance());
+	}
+	
+	@Test
+	public void testConcurrentSlots() throws Throwable
+	{
+		int beforeAllCalls = Template.beforeAllCalls.get();
+		int rows = 16;
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_CLASS, getMethods("beforeAll"), Collections.emptyList());
+		List<InstanceProducer.Slot> slots = new ArrayList<>();
+		for (int i = 0; i < rows; i++)
+		{
+			slots.add(producer.createSlot(getConstructor(), Arguments.of("value" + i), 4));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<Object>> instances = new ArrayList<>();
+			for (int i = 0; i < rows * 4; i++)
+			{
+				InstanceProducer.Slot slot = slots.get(i % rows);
+				instances.add(executor.submit(() ->
+				{
+					try
+					{
+						return slot.getInstance();
+					}
+					catch (Throwable e)
+					{
+						throw new IllegalStateException(e);
+					}
+				}));
+			}
+			for (int i = 0; i < rows * 4; i++)
+			{
+				assertSame(instances.get(i % rows).get(), instances.get(i).get());
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+		assertEquals(beforeAllCalls + 1, Template.beforeAllCalls.get());
+	}
+	
+	@Test
+	public void testFailedBeforeAll() throws Throwable
+	{
+		InstanceProducer producer = new InstanceProducer(TestInstance.Lifecycle.PER_METHOD, getMethods("failedBeforeAll"), Collections.emptyList());
+		for (InstanceProducer.Slot slot : Arrays.asList(producer.createSlot(getConstructor(), Arguments.of("first"), 1),
+				producer.createSlot(getConstructor(), Arguments.of("second"), 1)))
+		{
+			assertEquals("failed", assertThrows(AssertionFailedError.class, slot::getInstance).getMessage());
+		}
+	}
+}
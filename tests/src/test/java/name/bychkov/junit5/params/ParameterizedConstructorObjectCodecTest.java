@@ -0,0 +1,72 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import name.bychkov.junit5.BinaryDataReader;
+import name.bychkov.junit5.BinaryDataWriter;
+import name.bychkov.junit5.params.ParameterizedConstructorAnnotationProcessor.ParameterizedConstructorObject;
+
+public class ParameterizedConstructorObjectCodecTest
+{
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		ParameterizedConstructorObject object = new ParameterizedConstructorObject();
+		object.annotatedElement = "name.bychkov.junit5.TemplateTest.TemplateTest(java.lang.String, int)";
+		object.targetClass = "name.bychkov.junit5.TemplateTest";
+		object.parameters = new String[] { "java.lang.String", "int" };
+		object.hasNullSource = true;
+		object.hasEnumSource = true;
+		object.enumSourceValue = "name.bychkov.junit5.TestEnum";
+		object.enumSourceNames = new String[] { "A", "B" };
+		object.enumSourceMode = "EXCLUDE";
+		object.hasValueSource = true;
+		object.valueSourceShorts = new short[] { 1, -2 };
+		object.valueSourceBytes = new byte[] { 3 };
+		object.valueSourceInts = new int[] { Integer.MIN_VALUE, 0, Integer.MAX_VALUE };
+		object.valueSourceLongs = new long[] { Long.MAX_VALUE };
+		object.valueSourceFloats = new float[] { 1.5f };
+		object.valueSourceDoubles = new double[] { Double.NaN, -0.25 };
+		object.valueSourceChars = new char[] { 'x', 'я' };
+		object.valueSourceBooleans = new boolean[] { true, false };
+		object.valueSourceStrings = new String[] { "", "value" };
+		object.valueSourceClasses = new String[0];
+		object.hasMethodSource = true;
+		object.methodSourceValue = new String[] { "arguments" };
+		object.parallel = true;
+		object.hasCsvSource = true;
+		object.csvSourceValue = new String[] { "a, 1", "'b, c', 2" };
+		object.csvSourceQuoteCharacter = "'";
+		object.csvSourceDelimiter = ",";
+		object.csvSourceEmptyValue = "";
+		object.csvSourceNullValues = new String[] { "NIL" };
+		object.csvSourceIgnoreWhitespace = true;
+		object.hasCsvFileSource = true;
+		object.csvFileSourceResources = new String[] { "/traffic.csv" };
+		object.csvFileSourceFiles = new String[0];
+		object.csvFileSourceEncoding = "UTF-8";
+		object.csvFileSourceQuoteCharacter = "\"";
+		object.csvFileSourceDelimiter = ";";
+		object.csvFileSourceNumLinesToSkip = 1;
+		object.csvFileSourceEmptyValue = "EMPTY";
+		object.csvFileSourceNullValues = new String[0];
+		object.hasBinaryFileSource = true;
+		object.binaryFileSourceFiles = new String[] { "target/packets.bin" };
+		object.binaryFileSourceResources = new String[0];
+		object.binaryFileSourceRecordSize = 64;
+		object.binaryFileSourceHeaderSize = 24;
+		object.binaryFileSourceDecoder = "name.bychkov.junit5.PacketDecoder";
+		object.autoCloseArguments = true;
+		
+		BinaryDataWriter writer = new BinaryDataWriter();
+		ParameterizedConstructorObjectCodec.write(writer, object);
+		BinaryDataReader reader = new BinaryDataReader(ByteBuffer.wrap(writer.toByteArray()));
+		
+		assertEquals(object, ParameterizedConstructorObjectCodec.read(reader.nextRecord(), reader));
+	}
+}
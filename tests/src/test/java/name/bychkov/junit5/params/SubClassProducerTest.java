@@ -1,6 +1,9 @@
 package name.bychkov.junit5.params;
 
+import java.lang.ref.WeakReference;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 public class SubClassProducerTest
@@ -17,4 +20,87 @@ public class SubClassProducerTest
 			Assertions.fail("Method java.lang.ClassLoader#defineClass(String, byte[], int, int) is unaccessible", e);
 		}
 	}
+	
+	public static class Template
+	{
+		public Template()
+		{
+		}
+		
+		public Template(String name, long value)
+		{
+		}
+		
+		Template(int value)
+		{
+		}
+	}
+	
+	public static class WideTemplate
+	{
+		final long first;
+		final double second;
+		final String third;
+		
+		public WideTemplate(long first, double second, String third)
+		{
+			this.first = first;
+			this.second = second;
+			this.third = third;
+		}
+	}
+	
+	@Test
+	void testSubclassesAreReused() throws Exception
+	{
+		Class<?>[] params = { String.class, long.class };
+		Class<? extends Template> subclass = new SubClassProducer<>(Template.class).get(params);
+		Assertions.assertEquals(Template.class, subclass.getSuperclass());
+		Assertions.assertNotNull(subclass.getConstructor(params).newInstance("name", 1L));
+		Assertions.assertSame(subclass, new SubClassProducer<>(Template.class).get(new Class<?>[] { String.class, long.class }));
+		Assertions.assertNotSame(subclass, new SubClassProducer<>(Template.class).get(new Class<?>[0]));
+	}
+	
+	@Test
+	void testSubclassIsDefinedInPackageOfSuperclass() throws Exception
+	{
+		Class<? extends Template> subclass = new SubClassProducer<>(Template.class).get(new Class<?>[] { int.class });
+		Assertions.assertSame(Template.class.getClassLoader(), subclass.getClassLoader());
+		Assertions.assertEquals(Template.class.getPackage().getName(), subclass.getPackage().getName());
+		Assertions.assertNotNull(subclass.getConstructor(int.class).newInstance(1), "package-private constructor of superclass is accessible");
+	}
+	
+	public static class UnloadedTemplate
+	{
+		public UnloadedTemplate(String name)
+		{
+		}
+	}
+	
+	@Test
+	void testSubclassBecomesUnreachable() throws Exception
+	{
+		Assumptions.assumeTrue(ClassDefiner.getInstance() instanceof ClassDefiner.HiddenClassDefiner, "only hidden classes can be unloaded");
+		Class<?>[] params = { String.class };
+		WeakReference<Class<?>> subclass = new WeakReference<>(new SubClassProducer<>(UnloadedTemplate.class).get(params));
+		for (int i = 0; i < 100 && subclass.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assertions.assertNull(subclass.get(), "generated subclass is not kept by producer");
+		Class<? extends UnloadedTemplate> redefined = new SubClassProducer<>(UnloadedTemplate.class).get(params);
+		Assertions.assertNotNull(redefined.getConstructor(params).newInstance("name"), "subclass is defined again");
+	}
+	
+	@Test
+	void testWideParametersArePassed() throws Exception
+	{
+		Class<?>[] params = { long.class, double.class, String.class };
+		Class<? extends WideTemplate> subclass = new SubClassProducer<>(WideTemplate.class).get(params);
+		WideTemplate instance = subclass.getConstructor(params).newInstance(Long.MAX_VALUE, 0.5, "third");
+		Assertions.assertEquals(Long.MAX_VALUE, instance.first);
+		Assertions.assertEquals(0.5, instance.second);
+		Assertions.assertEquals("third", instance.third);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package name.bychkov.junit5.params;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.invoke.MethodHandle;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+public class TemplateMethodHandlesTest
+{
+	static class Template
+	{
+		static int staticCalls;
+		
+		final String name;
+		final long value;
+		int calls;
+		
+		private Template(String name, long value)
+		{
+			this.name = name;
+			this.value = value;
+		}
+		
+		static void beforeAll()
+		{
+			staticCalls++;
+		}
+		
+		private String test()
+		{
+			calls++;
+			return name;
+		}
+		
+		void fail()
+		{
+			throw new AssertionFailedError("failed");
+		}
+	}
+	
+	@Test
+	public void testConstructor() throws Throwable
+	{
+		MethodHandle constructor = TemplateMethodHandles.forConstructor(Template.class.getDeclaredConstructor(String.class, long.class));
+		Template instance = (Template) (Object) constructor.invokeExact(new Object[] { "name", 1 });
+		assertEquals("name", instance.name);
+		assertEquals(1L, instance.value);
+	}
+	
+	@Test
+	public void testMethods() throws Throwable
+	{
+		Template instance = new Template("name", 1);
+		TemplateMethodHandles.forMethod(Template.class.getDeclaredMethod("test")).invokeExact((Object) instance);
+		assertEquals(1, instance.calls);
+		
+		int staticCalls = Template.staticCalls;
+		TemplateMethodHandles.forMethod(Template.class.getDeclaredMethod("beforeAll")).invokeExact((Object) null);
+		assertEquals(staticCalls + 1, Template.staticCalls);
+	}
+	
+	@Test
+	public void testExceptionIsNotWrapped() throws Throwable
+	{
+		MethodHandle method = TemplateMethodHandles.forMethod(Template.class.getDeclaredMethod("fail"));
+		Template instance = new Template("name", 1);
+		AssertionFailedError error = assertThrows(AssertionFailedError.class, () ->
+		{
+			method.invokeExact((Object) instance);
+		});
+		assertSame("failed", error.getMessage());
+	}
+}